@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,19 +15,31 @@ package org.eclipse.pde.api.tools.apiusescan.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.search.IReferenceCollection;
 import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
 import org.eclipse.pde.api.tools.internal.search.UseScanManager;
+import org.eclipse.pde.api.tools.internal.search.UseScanParser;
+import org.eclipse.pde.api.tools.internal.search.UseScanVisitor;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Before;
 import org.junit.Test;
@@ -139,4 +151,99 @@ public class ReferenceCountTests {
 		assertFalse("References for org.eclipse.equinox.app.IApplication should have been purged from the cache", //$NON-NLS-1$
 				useScanRefs.hasReferencesTo("org.eclipse.equinox.app.IApplication")); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that visiting the index of a use scan reports the same references
+	 * as parsing the scan, also when the index is loaded again
+	 */
+	@Test
+	public void testUseScanIndex() throws Exception {
+		String location = ExternalDependencyTestUtils.setupReport("PDEApiUseScanReport", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : PDEApiUseScanReport.zip"); //$NON-NLS-1$
+		}
+		List<String> parsed = new ArrayList<>();
+		new UseScanParser().parse(location, new NullProgressMonitor(), new RecordingVisitor(parsed));
+		Collections.sort(parsed);
+		assertFalse("No references found", parsed.isEmpty()); //$NON-NLS-1$
+
+		for (int i = 0; i < 2; i++) {
+			List<String> indexed = new ArrayList<>();
+			UseScanIndex.get(location, new NullProgressMonitor()).accept(new RecordingVisitor(indexed), null);
+			Collections.sort(indexed);
+			assertEquals("The index should report the parsed references", parsed, indexed); //$NON-NLS-1$
+		}
+
+		List<String> app = new ArrayList<>();
+		UseScanIndex.get(location, new NullProgressMonitor()).accept(new RecordingVisitor(app), "org.eclipse.equinox.app"); //$NON-NLS-1$
+		assertFalse("No references to org.eclipse.equinox.app found", app.isEmpty()); //$NON-NLS-1$
+		for (String reference : app) {
+			assertTrue("Unexpected referenced component: " + reference, reference.startsWith("org.eclipse.equinox.app ")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Tests that an index is no longer up to date once an XML file of the use
+	 * scan is regenerated in place
+	 */
+	@Test
+	public void testUseScanIndexUpToDate() throws Exception {
+		String location = ExternalDependencyTestUtils.setupReport("PDEApiUseScanReport", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : PDEApiUseScanReport.zip"); //$NON-NLS-1$
+		}
+		UseScanIndex index = UseScanIndex.get(location, new NullProgressMonitor());
+		assertTrue("The index should be up to date", index.isUpToDate(location)); //$NON-NLS-1$
+
+		// the XML files of the referenced components are in sub directories
+		File[] referees = new File(location).listFiles(File::isDirectory);
+		assertNotNull("No referenced components found", referees); //$NON-NLS-1$
+		assertTrue("No referenced components found", referees.length > 0); //$NON-NLS-1$
+		File[] xmlFiles = Util.getAllFiles(referees[0], pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml")); //$NON-NLS-1$
+		assertTrue("No XML files found", xmlFiles != null && xmlFiles.length > 0); //$NON-NLS-1$
+		File xmlFile = xmlFiles[0];
+		assertTrue("Could not touch " + xmlFile, xmlFile.setLastModified(xmlFile.lastModified() + 10000)); //$NON-NLS-1$
+		assertFalse("The index should be outdated", index.isUpToDate(location)); //$NON-NLS-1$
+		assertTrue("A new index should be up to date", //$NON-NLS-1$
+				UseScanIndex.get(location, new NullProgressMonitor()).isUpToDate(location));
+	}
+
+	/**
+	 * Records the visited references as strings
+	 */
+	static class RecordingVisitor extends UseScanVisitor {
+		private final List<String> fReferences;
+		private IComponentDescriptor fTarget;
+		private IComponentDescriptor fOrigin;
+		private IMemberDescriptor fMember;
+
+		RecordingVisitor(List<String> references) {
+			fReferences = references;
+		}
+
+		@Override
+		public boolean visitComponent(IComponentDescriptor target) {
+			fTarget = target;
+			return true;
+		}
+
+		@Override
+		public boolean visitReferencingComponent(IComponentDescriptor component) {
+			fOrigin = component;
+			return true;
+		}
+
+		@Override
+		public boolean visitMember(IMemberDescriptor referencedMember) {
+			fMember = referencedMember;
+			return true;
+		}
+
+		@Override
+		public void visitReference(IReferenceDescriptor reference) {
+			fReferences.add(fTarget.getId() + ' ' + fTarget.getVersion() + ' ' + fOrigin + ' ' + fMember + ' '
+					+ reference.getMember() + ' ' + reference.getLineNumber() + ' ' + reference.getReferenceKind()
+					+ ' ' + reference.getReferenceFlags() + ' ' + reference.getVisibility());
+		}
+	}
 }
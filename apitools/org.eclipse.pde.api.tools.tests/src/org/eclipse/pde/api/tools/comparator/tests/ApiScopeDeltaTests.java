@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -247,4 +247,44 @@ public class ApiScopeDeltaTests extends DeltaTestSetup {
 			// expected as scope is null
 		}
 	}
+
+	/**
+	 * Use api scope with components compared in parallel
+	 */
+	@Test
+	public void test8() throws CoreException {
+		deployBundles("test2"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		ApiScope scope = new ApiScope();
+		for (IApiComponent apiComponent : after.getApiComponents()) {
+			scope.addElement(apiComponent);
+		}
+		IDelta delta = ApiComparator.compare(scope, before, VisibilityModifiers.API, true, false, true, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		assertEquals("Wrong size", 1, allLeavesDeltas.length); //$NON-NLS-1$
+		IDelta child = allLeavesDeltas[0];
+		assertEquals("Wrong kind", IDelta.REMOVED, child.getKind()); //$NON-NLS-1$
+		assertEquals("Wrong flag", IDelta.METHOD, child.getFlags()); //$NON-NLS-1$
+		assertEquals("Wrong element type", IDelta.CLASS_ELEMENT_TYPE, child.getElementType()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Compare a baseline with itself in parallel, identical class files must
+	 * not report any delta
+	 */
+	@Test
+	public void test9() throws CoreException {
+		deployBundles("test1"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		assertEquals("Not NO_DELTA", ApiComparator.NO_DELTA, ApiComparator.compare(after, after, VisibilityModifiers.API, true, true, null)); //$NON-NLS-1$
+		IDelta delta = ApiComparator.compare(before, after, VisibilityModifiers.API, false, true, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		assertEquals("Wrong size", 1, allLeavesDeltas.length); //$NON-NLS-1$
+		assertEquals("Wrong kind", IDelta.REMOVED, allLeavesDeltas[0].getKind()); //$NON-NLS-1$
+		assertEquals("Wrong flag", IDelta.METHOD, allLeavesDeltas[0].getFlags()); //$NON-NLS-1$
+	}
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConcurrentLRUCache}
+ */
+public class ConcurrentLRUCacheTests {
+
+	@Test
+	public void testPutGetRemove() {
+		ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(100);
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+		cache.put("a", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("1", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(cache.get("b")); //$NON-NLS-1$
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals("1", cache.remove("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		// small caches use a single segment and therefore evict in exact LRU order
+		ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(3);
+		cache.put(1, 1);
+		cache.put(2, 2);
+		cache.put(3, 3);
+		cache.get(1);
+		cache.put(4, 4);
+		assertEquals(3, cache.size());
+		assertNull("The least recently used entry should have been evicted", cache.get(2)); //$NON-NLS-1$
+		assertEquals(Integer.valueOf(1), cache.get(1));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testSizeBound() {
+		ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(1000);
+		for (int i = 0; i < 10_000; i++) {
+			cache.put(i, i);
+		}
+		assertTrue("The cache should not grow beyond its bound", cache.size() <= 1000); //$NON-NLS-1$
+		assertEquals(10_000 - cache.size(), cache.getEvictionCount());
+		cache.flush();
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testComputeIfAbsent() {
+		ConcurrentLRUCache<String, List<String>> cache = new ConcurrentLRUCache<>(10);
+		List<String> first = cache.computeIfAbsent("a", k -> new ArrayList<>()); //$NON-NLS-1$
+		List<String> second = cache.computeIfAbsent("a", k -> new ArrayList<>()); //$NON-NLS-1$
+		assertTrue("The computed value should have been cached", first == second); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(512);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int offset = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 20_000; i++) {
+						int key = (i * 31 + offset) % 2048;
+						Integer value = cache.get(key);
+						if (value == null) {
+							cache.put(key, key);
+						} else {
+							assertEquals(key, value.intValue());
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertTrue("The cache should not grow beyond its bound", cache.size() <= 512); //$NON-NLS-1$
+		assertEquals(8 * 20_000, cache.getHitCount() + cache.getMissCount());
+		assertFalse(cache.isEmpty());
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the resolution cache of the {@link ReferenceResolver}
+ */
+public class ReferenceResolverTests {
+
+	static final String COMPONENT_A = "component.a"; //$NON-NLS-1$
+	static final String COMPONENT_B = "component.b"; //$NON-NLS-1$
+	static final String TEST_PLUGINS = "test-plugins"; //$NON-NLS-1$
+
+	IApiBaseline fBaseline;
+
+	@Before
+	public void setUp() throws Exception {
+		fBaseline = TestSuiteHelper.createTestingBaseline(TEST_PLUGINS);
+		assertNotNull("the testing baseline should exist", fBaseline); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fBaseline.dispose();
+	}
+
+	private IApiType getType(IApiComponent component, String typename) throws CoreException {
+		IApiTypeRoot root = component.findTypeRoot(typename);
+		assertNotNull("Missing type " + typename, root); //$NON-NLS-1$
+		return root.getStructure();
+	}
+
+	/**
+	 * Tests that a reference resolved from one component is reused for the
+	 * same reference from another component of the baseline that sees the
+	 * referenced package through the same provider, also after the first
+	 * component was closed
+	 */
+	@Test
+	public void testResolutionSharedAcrossComponents() throws CoreException {
+		IApiComponent componentA = fBaseline.getApiComponent(COMPONENT_A);
+		IApiComponent componentB = fBaseline.getApiComponent(COMPONENT_B);
+		assertNotNull("Missing component.a", componentA); //$NON-NLS-1$
+		assertNotNull("Missing component.b", componentB); //$NON-NLS-1$
+
+		Reference fromA = Reference.typeReference(getType(componentA, "component.a.Activator"), "component.a.A", //$NON-NLS-1$ //$NON-NLS-2$
+				IReference.REF_INSTANTIATE);
+		Reference fromB = Reference.typeReference(getType(componentB, "component.b.Activator"), "component.a.A", //$NON-NLS-1$ //$NON-NLS-2$
+				IReference.REF_INSTANTIATE);
+
+		ReferenceResolver.resolveReferences(List.of(fromA));
+		IApiMember resolved = fromA.getResolvedReference();
+		assertNotNull("The reference from component.a should be resolved", resolved); //$NON-NLS-1$
+
+		// analyses and searches close each component after scanning it
+		componentA.close();
+
+		long hits = ReferenceResolver.getResolutionCacheHits();
+		ReferenceResolver.resolveReferences(List.of(fromB));
+		assertEquals("The reference from component.b should be resolved from the cache", hits + 1, //$NON-NLS-1$
+				ReferenceResolver.getResolutionCacheHits());
+		assertEquals("Wrong resolution", resolved, fromB.getResolvedReference()); //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -143,7 +143,7 @@ public class ApiUseScanJob extends Job {
 				IApiSearchReporter reporter = new XmlSearchReporter(xmlPath, false);
 				try {
 					ApiSearchEngine engine = new ApiSearchEngine();
-					engine.search(baseline, requestor, reporter, localmonitor.split(6));
+					engine.search(baseline, requestor, reporter, true, localmonitor.split(6));
 				} finally {
 					reporter.reportNotSearched(ApiUseScanJob.this.notsearched.toArray(new IApiElement[ApiUseScanJob.this.notsearched.size()]));
 					reporter.reportMetadata(data);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
 import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -46,6 +47,8 @@ import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Util;
@@ -194,9 +197,21 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 				if (type != null) {
 					ApiModelCache.getCache().removeElementInfo(ApiBaselineManager.WORKSPACE_API_BASELINE_ID, element.getJavaProject().getElementName(), type.getFullyQualifiedName(), IApiElement.TYPE);
 				}
+				// only the resolutions involving the changed component are affected
+				IApiBaseline baseline = ApiBaselineManager.getManager().getWorkspaceBaseline();
+				IApiComponent component = baseline != null
+						? baseline.getApiComponent(element.getJavaProject().getProject())
+						: null;
+				if (component != null) {
+					ReferenceResolver.flushResolutionCache(ApiBaselineManager.WORKSPACE_API_BASELINE_ID,
+							component.getSymbolicName());
+				} else {
+					ReferenceResolver.flushResolutionCache(ApiBaselineManager.WORKSPACE_API_BASELINE_ID);
+				}
 			}
 			case IJavaElement.JAVA_PROJECT -> {
 				ApiModelCache.getCache().removeElementInfo(ApiBaselineManager.WORKSPACE_API_BASELINE_ID, element.getElementName(), null, IApiElement.COMPONENT);
+				ReferenceResolver.flushResolutionCache(ApiBaselineManager.WORKSPACE_API_BASELINE_ID);
 			}
 			default -> { /**/ }
 		}
@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A size bounded cache that can be accessed concurrently without a global
+ * lock. The cache is split into a number of segments, each guarded by its own
+ * lock and evicting its least recently used entry when it is full. The
+ * eviction order is therefore only approximately LRU for the cache as a
+ * whole.
+ * <p>
+ * Hits, misses and evictions are counted, see {@link #getHitCount()},
+ * {@link #getMissCount()} and {@link #getEvictionCount()}.
+ * </p>
+ * <p>
+ * <code>null</code> keys and values are not supported.
+ * </p>
+ */
+public class ConcurrentLRUCache<K, V> {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	/**
+	 * Minimal number of entries per segment, smaller caches use less segments
+	 * to keep the eviction order close to LRU
+	 */
+	private static final int MIN_SEGMENT_SIZE = 8;
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+		private final int fLimit;
+		private final transient LongAdder fEvictions;
+
+		Segment(int limit, LongAdder evictions) {
+			super(16, 0.75f, true);
+			fLimit = limit;
+			fEvictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() > fLimit) {
+				fEvictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+
+	private final Segment<K, V>[] fSegments;
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
+
+	/**
+	 * Constructor
+	 *
+	 * @param size the maximum number of entries in the cache, rounded down to
+	 *            a multiple of the number of segments
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int size) {
+		int limit = Math.max(1, size);
+		int segments = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, limit / MIN_SEGMENT_SIZE)));
+		int segmentLimit = limit / segments;
+		fSegments = (Segment<K, V>[]) new Segment<?, ?>[segments];
+		for (int i = 0; i < segments; i++) {
+			fSegments[i] = new Segment<>(segmentLimit, fEvictions);
+		}
+	}
+
+	private Segment<K, V> segmentFor(Object key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return fSegments[h & (fSegments.length - 1)];
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as most
+	 * recently used in its segment.
+	 *
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			value = segment.get(key);
+		}
+		if (value == null) {
+			fMisses.increment();
+		} else {
+			fHits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Caches the given value, possibly evicting the least recently used entry
+	 * of the segment of the key.
+	 *
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.put(key, value);
+		}
+	}
+
+	/**
+	 * Returns the value cached for the given key, atomically computing and
+	 * caching it with the given function if it is not present.
+	 *
+	 * @param function the function computing the value, must not access this
+	 *            cache
+	 * @return the cached or computed value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			V value = segment.get(key);
+			if (value != null) {
+				fHits.increment();
+				return value;
+			}
+			fMisses.increment();
+			value = function.apply(key);
+			if (value != null) {
+				segment.put(key, value);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Removes the value cached for the given key.
+	 *
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all entries that match the given filter.
+	 *
+	 * @param filter the filter, must not access this cache
+	 * @return the number of removed entries
+	 */
+	public int removeIf(BiPredicate<? super K, ? super V> filter) {
+		int removed = 0;
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				Iterator<Map.Entry<K, V>> iterator = segment.entrySet().iterator();
+				while (iterator.hasNext()) {
+					Map.Entry<K, V> entry = iterator.next();
+					if (filter.test(entry.getKey(), entry.getValue())) {
+						iterator.remove();
+						removed++;
+					}
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes all entries from the cache. The statistics are not reset.
+	 */
+	public void flush() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns if the cache has any elements in it or not
+	 *
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				if (!segment.isEmpty()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the current number of entries in the cache
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return snapshot of the keys in the cache
+	 */
+	public List<K> keysSnapshot() {
+		List<K> keys = new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				keys.addAll(segment.keySet());
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * @return snapshot of the elements in the cache
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> elements = new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				elements.addAll(segment.values());
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * @return the number of lookups that found a cached value
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that did not find a cached value
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of entries evicted because the cache was full
+	 */
+	public long getEvictionCount() {
+		return fEvictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size() + ", hits=" + getHitCount() + ", misses=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ getMissCount() + ", evictions=" + getEvictionCount() + ']'; //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -387,6 +387,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	protected void work(final boolean fullBuild, IApiBaseline wbaseline, IProject[] projects, IProgressMonitor monitor)
 			throws CoreException {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_builder, 8);
+		long start = System.currentTimeMillis();
 
 		IApiBaseline baseline = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
 		try {
@@ -525,7 +526,8 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			}
 		}
 		if (ApiPlugin.DEBUG_BUILDER) {
-			System.out.println("ApiAnalysisBuilder: Finished build of " + this.currentproject.getName() + " @ " + new Date(System.currentTimeMillis())); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("ApiAnalysisBuilder: Finished build of " + this.currentproject.getName() + " @ " //$NON-NLS-1$ //$NON-NLS-2$
+					+ new Date(System.currentTimeMillis()) + " in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 	}
 
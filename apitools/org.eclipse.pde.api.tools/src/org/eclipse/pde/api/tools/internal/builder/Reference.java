@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -672,6 +672,14 @@ public class Reference implements IReference {
 		this.fStatus = value;
 	}
 
+	/**
+	 * @return whether this reference is to be resolved, see
+	 *         {@link #setResolveStatus(boolean)}
+	 */
+	boolean getResolveStatus() {
+		return this.fStatus;
+	}
+
 	/**
 	 * Returns the string representation for the given reference kind or
 	 * <code>UKNOWN_KIND</code> if the kind cannot be determined.
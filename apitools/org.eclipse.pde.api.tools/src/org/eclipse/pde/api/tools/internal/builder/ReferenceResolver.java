@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,17 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
 
 /**
  * Utility class used to resolve {@link IReference}s
@@ -31,6 +37,32 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
  */
 public final class ReferenceResolver {
 
+	/**
+	 * Maximum number of resolved references cached per baseline
+	 */
+	static final int RESOLUTION_CACHE_SIZE = 10000;
+
+	/**
+	 * Map of baseline names to the resolutions of the references from the
+	 * components of the baseline, shared by all analysis runs and searches.
+	 * Baselines are looked up by name, the key used by the
+	 * {@link org.eclipse.pde.api.tools.internal.model.ApiModelCache} to
+	 * invalidate elements. The resolutions of a baseline are discarded when it
+	 * is disposed or its content changes, see
+	 * {@link #flushResolutionCache(String)}.
+	 * <p>
+	 * A resolution is cached under two keys: the key of the reference within
+	 * the referencing component, see {@link #createSignatureKey(IReference)},
+	 * which is cheap to compute, and the key of the reference within the
+	 * components providing the referenced package, see
+	 * {@link #createProviderKey(IReference)}, which is shared by all
+	 * components that see the package through the same providers.
+	 * </p>
+	 */
+	private static final Map<String, ConcurrentLRUCache<String, IApiMember>> fResolutionCaches = new ConcurrentHashMap<>();
+	private static final LongAdder fCacheHits = new LongAdder();
+	private static final LongAdder fCacheMisses = new LongAdder();
+
 	/**
 	 * Constructor Private constructor, no instantiate
 	 */
@@ -76,6 +108,7 @@ public final class ReferenceResolver {
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Reference resolver: resolution cache hits: " + fCacheHits.sum() + ", misses: " + fCacheMisses.sum()); //$NON-NLS-1$//$NON-NLS-2$
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
@@ -96,10 +129,36 @@ public final class ReferenceResolver {
 	 */
 	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
 		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
+		for (Map.Entry<String, List<IReference>> entry : map.entrySet()) {
+			List<IReference> refs = entry.getValue();
 			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
+			// references that are not to be resolved must not pick up a cached resolution
+			ConcurrentLRUCache<String, IApiMember> cache = ((Reference) ref).getResolveStatus() ? getResolutionCache(ref) : null;
+			IApiMember resolved = null;
+			String providerKey = null;
+			if (cache != null) {
+				resolved = cache.get(entry.getKey());
+				if (resolved == null) {
+					// the providers of the package are only resolved if the
+					// reference was not resolved from this component before
+					providerKey = createProviderKey(ref);
+					resolved = cache.get(providerKey);
+					if (resolved != null) {
+						cache.put(entry.getKey(), resolved);
+					}
+				}
+			}
+			if (resolved == null) {
+				fCacheMisses.increment();
+				((Reference) ref).resolve();
+				resolved = ref.getResolvedReference();
+				if (resolved != null && cache != null) {
+					cache.put(providerKey, resolved);
+					cache.put(entry.getKey(), resolved);
+				}
+			} else {
+				fCacheHits.increment();
+			}
 			if (resolved != null) {
 				for (IReference ref2 : refs) {
 					((Reference) ref2).setResolution(resolved);
@@ -108,12 +167,102 @@ public final class ReferenceResolver {
 		}
 	}
 
+	/**
+	 * Returns the resolutions cached for the baseline of the component of the
+	 * given reference.
+	 *
+	 * @return the cache or <code>null</code> if the reference has no component
+	 */
+	private static ConcurrentLRUCache<String, IApiMember> getResolutionCache(IReference reference) throws CoreException {
+		IApiComponent component = reference.getMember().getApiComponent();
+		if (component == null) {
+			return null;
+		}
+		IApiBaseline baseline = component.getBaseline();
+		if (baseline == null) {
+			return null;
+		}
+		ConcurrentLRUCache<String, IApiMember> cache = fResolutionCaches.get(baseline.getName());
+		if (cache == null) {
+			cache = fResolutionCaches.computeIfAbsent(baseline.getName(),
+					name -> new ConcurrentLRUCache<>(RESOLUTION_CACHE_SIZE));
+		}
+		return cache;
+	}
+
+	/**
+	 * Returns the number of references resolved from the resolution caches
+	 * since startup, for tracing and tests.
+	 *
+	 * @return the number of cache hits
+	 */
+	public static long getResolutionCacheHits() {
+		return fCacheHits.sum();
+	}
+
+	/**
+	 * Discards the resolutions cached for the baseline with the given name.
+	 * Called whenever the content of the baseline changes, i.e. a type or a
+	 * component is changed, added or removed, or the baseline is disposed, as
+	 * that may change the resolution of any reference in the baseline. Merely
+	 * closing a component does not change its content.
+	 *
+	 * @param baselineid the name of the baseline
+	 */
+	public static void flushResolutionCache(String baselineid) {
+		if (fResolutionCaches.remove(baselineid) != null && ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
+			System.out.println("Reference resolver: flushed resolution cache of " + baselineid); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Discards the resolutions cached for the baseline with the given name that
+	 * involve the given component: resolutions to members of the component
+	 * and resolutions of references from the component or to packages it
+	 * provides. Called when a type of the component changes, which does not
+	 * affect how references between other components resolve.
+	 *
+	 * @param baselineid the name of the baseline
+	 * @param componentid the symbolic name of the changed component
+	 */
+	public static void flushResolutionCache(String baselineid, String componentid) {
+		ConcurrentLRUCache<String, IApiMember> cache = fResolutionCaches.get(baselineid);
+		if (cache == null) {
+			return;
+		}
+		String prefix = componentid + '_';
+		int removed = cache.removeIf((key, member) -> {
+			IApiComponent component = member.getApiComponent();
+			if (component != null && componentid.equals(component.getSymbolicName())) {
+				return true;
+			}
+			// the components of a key precede the first '#'
+			String components = key.substring(key.charAt(0) == '>' ? 1 : 0, key.indexOf('#'));
+			for (String id : components.split(",")) { //$NON-NLS-1$
+				if (id.startsWith(prefix)) {
+					return true;
+				}
+			}
+			return false;
+		});
+		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
+			System.out.println("Reference resolver: flushed " + removed + " resolutions of " + componentid + " in " + baselineid); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * Discards the resolutions cached for all baselines.
+	 */
+	public static void flushResolutionCaches() {
+		fResolutionCaches.clear();
+	}
+
 	/**
 	 * Creates a unique string key for a given reference. The key is of the form
 	 * "component X references type/member"
 	 *
 	 * <pre>
-	 * [component_id]#[type_name](#[member_name]#[member_signature])
+	 * [component_id]_[component_version]#[type_name](#[member_name]#[member_signature])
 	 * </pre>
 	 *
 	 * @param reference reference
@@ -121,7 +270,53 @@ public final class ReferenceResolver {
 	 */
 	private static String createSignatureKey(IReference reference) {
 		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
+		IApiComponent component = reference.getMember().getApiComponent();
+		// several versions of a component may resolve differently
+		buffer.append(component.getSymbolicName()).append('_').append(component.getVersion());
+		appendReferencedMember(buffer, reference);
+		return buffer.toString();
+	}
+
+	/**
+	 * Creates a key for a given reference that is shared by all components
+	 * that see the referenced package through the same providers. The key is
+	 * of the form "components providing the package X to the referencing
+	 * component reference type/member"
+	 *
+	 * <pre>
+	 * &gt;[provider_id]_[provider_version](,...)#[type_name](#[member_name]#[member_signature])
+	 * </pre>
+	 *
+	 * If the package has no provider the referencing component is used
+	 * instead.
+	 *
+	 * @param reference reference
+	 * @return a string key for the given reference.
+	 * @throws CoreException if the package cannot be resolved
+	 */
+	private static String createProviderKey(IReference reference) throws CoreException {
+		StringBuilder buffer = new StringBuilder();
+		IApiComponent component = reference.getMember().getApiComponent();
+		IApiBaseline baseline = component.getBaseline();
+		IApiComponent[] providers = baseline != null
+				? baseline.resolvePackage(component, Signatures.getPackageName(reference.getReferencedTypeName()))
+				: null;
+		if (providers == null || providers.length == 0) {
+			providers = new IApiComponent[] { component };
+		}
+		// distinguishes the key from the keys of the referencing components
+		buffer.append('>');
+		for (int i = 0; i < providers.length; i++) {
+			if (i > 0) {
+				buffer.append(',');
+			}
+			buffer.append(providers[i].getSymbolicName()).append('_').append(providers[i].getVersion());
+		}
+		appendReferencedMember(buffer, reference);
+		return buffer.toString();
+	}
+
+	private static void appendReferencedMember(StringBuilder buffer, IReference reference) {
 		buffer.append("#"); //$NON-NLS-1$
 		buffer.append(reference.getReferencedTypeName());
 		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
@@ -134,6 +329,5 @@ public final class ReferenceResolver {
 			buffer.append("#"); //$NON-NLS-1$
 			buffer.append(reference.getReferencedSignature());
 		}
-		return buffer.toString();
 	}
 }
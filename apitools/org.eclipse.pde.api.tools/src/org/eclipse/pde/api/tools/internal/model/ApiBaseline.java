@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,7 @@ import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager.ApiBaselineManagerRule;
 import org.eclipse.pde.api.tools.internal.CoreMessages;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -394,6 +395,8 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 
 		fComponentsById.put(component.getSymbolicName(), component);
+		// the new component may provide packages to the other components
+		ReferenceResolver.flushResolutionCache(getName());
 		if (component instanceof ProjectComponent projectApiComponent) {
 			fComponentsByProjectNames.put(projectApiComponent.getJavaProject().getProject().getName(), component);
 		}
@@ -875,6 +878,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			disposed = true;
 		}
 		clearCachedElements();
+		ReferenceResolver.flushResolutionCache(getName());
 		if (ApiPlugin.isRunningInFramework()) {
 			JavaRuntime.removeVMInstallChangedListener(this);
 		}
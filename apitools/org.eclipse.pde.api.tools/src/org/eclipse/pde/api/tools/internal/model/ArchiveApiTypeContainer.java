@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -120,10 +120,10 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	String fLocation;
 
 	/**
-	 * Cache of package names to a map of class names to class files paths in that
-	 * package, or <code>null</code> if not yet initialized.
+	 * Index of package names to a map of class names to class files paths in
+	 * that package, or <code>null</code> if not yet initialized.
 	 */
-	private Map<String, Map<String, String>> fPackages;
+	private ArchiveTypeIndex fIndex;
 
 	/**
 	 * Cache of package names in this archive.
@@ -177,10 +177,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	public void accept(ApiTypeContainerVisitor visitor) throws CoreException {
 		if (visitor.visit(this)) {
 			init();
-			for (Map.Entry<String, Map<String, String>> entry : fPackages.entrySet()) {
-				String pkg = entry.getKey();
+			for (String pkg : fIndex.getPackageNames()) {
 				if (visitor.visitPackage(pkg)) {
-					Map<String, String> classes = entry.getValue();
+					Map<String, String> classes = fIndex.getTypes(pkg);
 					List<ArchiveApiTypeRoot> classFiles = new ArrayList<>(classes.size());
 					for (Map.Entry<String, String> classEntry : classes.entrySet()) {
 						classFiles.add(new ArchiveApiTypeRoot(this, classEntry.getKey(), classEntry.getValue()));
@@ -218,12 +217,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	public IApiTypeRoot findTypeRoot(String qualifiedName) throws CoreException {
 		init();
 		String packageName = Signatures.getPackageName(qualifiedName);
-		Map<String, String> classFileNames = fPackages.get(packageName);
-		if (classFileNames != null) {
-			String fileName = classFileNames.get(qualifiedName);
-			if (fileName != null) {
-				return new ArchiveApiTypeRoot(this, qualifiedName, fileName);
-			}
+		String fileName = fIndex.getTypes(packageName).get(qualifiedName);
+		if (fileName != null) {
+			return new ArchiveApiTypeRoot(this, qualifiedName, fileName);
 		}
 		return null;
 	}
@@ -236,41 +232,68 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		init();
 		synchronized (this) {
 			if (fPackageNames == null) {
-				fPackageNames = fPackages.keySet().toArray(String[]::new);
+				fPackageNames = fIndex.getPackageNames();
 			}
 			return fPackageNames;
 		}
 	}
 
 	/**
-	 * Initializes cache of packages and types.
+	 * Initializes the index of packages and types. A persisted index is reused
+	 * if the archive did not change, so the archive is only opened when the
+	 * contents of a class file are requested.
 	 */
 	private synchronized void init() throws CoreException {
-		if (fPackages == null) {
-			fPackages = new TreeMap<>();
+		if (fIndex == null) {
 			try {
-				Path location = getLocation();
-				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
-				try (Stream<Path> walk = Files.walk(location)) {
-					walk.forEach(it -> {
-						String name = location.relativize(it).toString();
-						if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
-							// In the JRT file system, the first segment will be the module name,
-							// which we must strip.
-							String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
-									name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
-							String pkg = Signatures.getPackageName(className);
-							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
-							fileNames.put(className, name);
-						}
-					});
-				}
+				fIndex = ArchiveTypeIndex.get(fLocation, getStampFile(), this::walkArchive);
 			} catch (IOException e) {
 				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
 		}
 	}
 
+	/**
+	 * Returns the file identifying the version of the archive contents. For
+	 * the JRT file system this is the modules image next to
+	 * <code>jrt-fs.jar</code>.
+	 */
+	@SuppressWarnings("nls")
+	private Path getStampFile() {
+		Path path = Path.of(fLocation);
+		if (fLocation.endsWith("jrt-fs.jar")) {
+			return path.resolveSibling("modules");
+		}
+		return path;
+	}
+
+	/**
+	 * Walks the archive to collect its class files.
+	 *
+	 * @return sorted map of package names to sorted maps of class names to
+	 *         class file paths
+	 */
+	private Map<String, Map<String, String>> walkArchive() throws IOException {
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		Path location = getLocation();
+		boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
+		try (Stream<Path> walk = Files.walk(location)) {
+			walk.forEach(it -> {
+				String name = location.relativize(it).toString();
+				if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+					// In the JRT file system, the first segment will be the module name,
+					// which we must strip.
+					String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
+							name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+					String pkg = Signatures.getPackageName(className);
+					Map<String, String> fileNames = packages.computeIfAbsent(pkg, p -> new TreeMap<>());
+					fileNames.put(className, name);
+				}
+			});
+		}
+		return packages;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof ArchiveApiTypeContainer) {
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.util.IndexFiles;
+
+/**
+ * Index of the class files of an archive, grouped by package. Maps the
+ * qualified names of the types in a package to the paths of their class files
+ * in the archive.
+ * <p>
+ * When running in the framework the index is persisted in the state location
+ * of the API tools plug-in and memory-mapped when the archive is opened
+ * again, as long as the size and modification time of the archive are
+ * unchanged. Only the package table is read eagerly, the types of a package
+ * are decoded from the mapped file on first access. This avoids walking (and
+ * opening) the archive just to know which types it contains.
+ * </p>
+ * <p>
+ * The index file contains a header with the archive location, size and
+ * modification time, followed by a table of the package names with the offset
+ * and number of their types, followed by the pairs of type names and entry
+ * names of each package. See {@link IndexFiles} for how index files are named
+ * and removed.
+ * </p>
+ * <p>
+ * An index is immutable and may be queried concurrently.
+ * </p>
+ */
+final class ArchiveTypeIndex {
+
+	private static final String INDEX_DIRECTORY = ".archive_indexes"; //$NON-NLS-1$
+	private static final int MAGIC = 0x41504958;
+	private static final int FORMAT_VERSION = 2;
+
+	/**
+	 * Computes the types of an archive, see
+	 * {@link ArchiveTypeIndex#get(String, Path, Builder)}
+	 */
+	@FunctionalInterface
+	interface Builder {
+		/**
+		 * @return map of package names to maps of type names to entry names
+		 */
+		Map<String, Map<String, String>> build() throws IOException;
+	}
+
+	/**
+	 * Location of a package in the mapped index
+	 */
+	private record PackageEntry(int offset, int typeCount) {
+	}
+
+	/**
+	 * Sorted map of package names to their location in {@link #fBuffer}, or
+	 * <code>null</code> if the index was not loaded from a file
+	 */
+	private final Map<String, PackageEntry> fPackageEntries;
+	private final ByteBuffer fBuffer;
+	/**
+	 * Sorted map of package names to the types of the package that were
+	 * decoded so far
+	 */
+	private final Map<String, Map<String, String>> fPackages;
+
+	private ArchiveTypeIndex(Map<String, Map<String, String>> packages) {
+		fPackageEntries = null;
+		fBuffer = null;
+		fPackages = packages;
+	}
+
+	private ArchiveTypeIndex(Map<String, PackageEntry> packageEntries, ByteBuffer buffer) {
+		fPackageEntries = packageEntries;
+		fBuffer = buffer;
+		fPackages = new ConcurrentHashMap<>(packageEntries.size());
+	}
+
+	/**
+	 * Returns the index of the given archive, loading it from the state
+	 * location if it is up to date or building and storing it otherwise.
+	 *
+	 * @param location the location of the archive
+	 * @param stampFile the file whose size and modification time identify the
+	 *            version of the archive, usually the archive itself
+	 * @param builder computes the types of the archive if no up to date index
+	 *            exists
+	 * @return the index of the archive
+	 * @throws IOException if the types of the archive cannot be computed
+	 */
+	static ArchiveTypeIndex get(String location, Path stampFile, Builder builder) throws IOException {
+		if (!ApiPlugin.isRunningInFramework()) {
+			return new ArchiveTypeIndex(builder.build());
+		}
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(stampFile, BasicFileAttributes.class);
+		} catch (IOException e) {
+			// not a plain file, cannot tell whether an index is up to date
+			return new ArchiveTypeIndex(builder.build());
+		}
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		Path indexFile = IndexFiles.getIndexFile(INDEX_DIRECTORY, location, 31 * lastModified + size, FORMAT_VERSION);
+		ArchiveTypeIndex index = load(indexFile, location, size, lastModified);
+		if (index == null) {
+			Map<String, Map<String, String>> packages = builder.build();
+			index = new ArchiveTypeIndex(packages);
+			save(indexFile, location, size, lastModified, packages);
+		}
+		return index;
+	}
+
+	/**
+	 * @return the sorted names of all packages in the archive
+	 */
+	String[] getPackageNames() {
+		return (fPackageEntries != null ? fPackageEntries : fPackages).keySet().toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the types of the given package.
+	 *
+	 * @return the sorted map of qualified type names to entry names, empty if
+	 *         the archive does not contain the package
+	 */
+	Map<String, String> getTypes(String packageName) {
+		if (fPackageEntries == null) {
+			return fPackages.getOrDefault(packageName, Collections.emptyMap());
+		}
+		PackageEntry entry = fPackageEntries.get(packageName);
+		if (entry == null) {
+			return Collections.emptyMap();
+		}
+		return fPackages.computeIfAbsent(packageName, p -> decodeTypes(entry));
+	}
+
+	private Map<String, String> decodeTypes(PackageEntry entry) {
+		// a duplicate has its own position, so packages can be decoded concurrently
+		ByteBuffer buffer = fBuffer.duplicate();
+		buffer.position(entry.offset());
+		Map<String, String> types = new TreeMap<>();
+		for (int i = 0; i < entry.typeCount(); i++) {
+			types.put(IndexFiles.readString(buffer), IndexFiles.readString(buffer));
+		}
+		return Collections.unmodifiableMap(types);
+	}
+
+	private static ArchiveTypeIndex load(Path indexFile, String location, long size, long lastModified) {
+		try {
+			ByteBuffer buffer = IndexFiles.map(indexFile, location, MAGIC, FORMAT_VERSION);
+			if (buffer == null || buffer.getLong() != size || buffer.getLong() != lastModified) {
+				return null;
+			}
+			int packageCount = buffer.getInt();
+			Map<String, PackageEntry> packageEntries = new TreeMap<>();
+			for (int i = 0; i < packageCount; i++) {
+				packageEntries.put(IndexFiles.readString(buffer), new PackageEntry(buffer.getInt(), buffer.getInt()));
+			}
+			// type offsets are relative to the end of the package table
+			return new ArchiveTypeIndex(Collections.unmodifiableMap(packageEntries), buffer.slice());
+		} catch (IOException | RuntimeException e) {
+			// a corrupt index is simply rebuilt
+			if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Discarding unreadable archive index " + indexFile + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	private static void save(Path indexFile, String location, long size, long lastModified,
+			Map<String, Map<String, String>> packages) {
+		try {
+			// the type blocks are written first to know the offsets of the packages
+			ByteArrayOutputStream types = new ByteArrayOutputStream();
+			DataOutputStream typesOut = new DataOutputStream(types);
+			Map<String, Integer> offsets = new TreeMap<>();
+			for (Map.Entry<String, Map<String, String>> entry : packages.entrySet()) {
+				offsets.put(entry.getKey(), typesOut.size());
+				for (Map.Entry<String, String> type : entry.getValue().entrySet()) {
+					IndexFiles.writeString(typesOut, type.getKey());
+					IndexFiles.writeString(typesOut, type.getValue());
+				}
+			}
+			IndexFiles.write(indexFile, location, MAGIC, FORMAT_VERSION, out -> {
+				out.writeLong(size);
+				out.writeLong(lastModified);
+				out.writeInt(packages.size());
+				for (Map.Entry<String, Map<String, String>> entry : packages.entrySet()) {
+					IndexFiles.writeString(out, entry.getKey());
+					out.writeInt(offsets.get(entry.getKey()));
+					out.writeInt(entry.getValue().size());
+				}
+				types.writeTo(out);
+			});
+		} catch (IOException e) {
+			// the index is only an optimization, it is rebuilt the next time
+			if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Failed to write archive index " + indexFile + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+}
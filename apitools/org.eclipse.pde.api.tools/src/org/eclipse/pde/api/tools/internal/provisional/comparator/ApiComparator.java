@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,21 @@ package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -52,6 +63,11 @@ public class ApiComparator {
 	 */
 	public static final IDelta NO_DELTA = new Delta();
 
+	/**
+	 * Time in milliseconds between progress reports of a parallel comparison
+	 */
+	private static final long PROGRESS_INTERVAL = 100;
+
 	/**
 	 * Returns a delta for a API component version change
 	 */
@@ -99,51 +115,63 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 * <p>
+	 * If <code>parallel</code> is <code>true</code> the API components of the
+	 * reference baseline are compared concurrently. The returned delta is the
+	 * same as for a sequential comparison.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallel whether the API components should be compared
+	 *            concurrently
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean parallel, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
 		}
 		IApiComponent[] apiComponents = referenceBaseline.getApiComponents();
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
-		Set<String> apiComponentsIds = new HashSet<>();
+		Set<String> apiComponentsIds = ConcurrentHashMap.newKeySet();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
-						}
-					}
-				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
-				}
+		ComponentDelta[] componentDeltas = new ComponentDelta[apiComponents.length];
+		if (parallel) {
+			forEachParallel(apiComponents.length,
+					i -> componentDeltas[i] = compareComponent(apiComponents[i], referenceBaseline, baseline,
+							visibilityModifiers, force, apiComponentsIds, null),
+					apiLoopMonitor);
+		} else {
+			for (int i = 0; i < apiComponents.length; i++) {
+				componentDeltas[i] = compareComponent(apiComponents[i], referenceBaseline, baseline,
+						visibilityModifiers, force, apiComponentsIds, apiLoopMonitor.split(1));
+			}
+		}
+		// deltas are added in the order of the components to get the same
+		// result for sequential and parallel comparisons
+		for (ComponentDelta componentDelta : componentDeltas) {
+			if (componentDelta.versionDelta() != null) {
+				globalDelta.add(componentDelta.versionDelta());
+			}
+			if (componentDelta.delta() != null && componentDelta.delta() != NO_DELTA) {
+				globalDelta.add(componentDelta.delta());
 			}
 		}
 		SubMonitor elementLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents2.length);
@@ -162,6 +190,101 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Performs the given action for the indices from <code>0</code> to
+	 * <code>count - 1</code> concurrently, reporting one unit of work per
+	 * index to the given monitor. SubMonitor is not thread safe, so the
+	 * workers only observe a cancellation flag and count the indices they
+	 * processed, while this thread reports that count to the monitor until
+	 * all indices are processed.
+	 *
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	static void forEachParallel(final int count, final IntConsumer action, final SubMonitor monitor) {
+		AtomicBoolean canceled = new AtomicBoolean();
+		AtomicInteger processed = new AtomicInteger();
+		Future<?> processing = ForkJoinPool.commonPool()
+				.submit(() -> IntStream.range(0, count).parallel().forEach(i -> {
+					if (canceled.get()) {
+						throw new OperationCanceledException();
+					}
+					action.accept(i);
+					processed.incrementAndGet();
+				}));
+		int reported = 0;
+		try {
+			while (true) {
+				try {
+					processing.get(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS);
+					monitor.worked(count - reported);
+					return;
+				} catch (TimeoutException e) {
+					int done = processed.get();
+					monitor.worked(done - reported);
+					reported = done;
+					monitor.checkCanceled();
+				}
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			canceled.set(true);
+		}
+	}
+
+	/**
+	 * The deltas computed for one API component of a reference baseline
+	 *
+	 * @param versionDelta the delta of the bundle version change or
+	 *            <code>null</code>
+	 * @param delta the delta of the component content or <code>null</code>
+	 */
+	private record ComponentDelta(IDelta versionDelta, IDelta delta) {
+	}
+
+	/**
+	 * Compares the given API component of the reference baseline with the
+	 * component of the same id in the given baseline. The ids of components
+	 * found in both baselines are added to <code>apiComponentsIds</code>.
+	 */
+	private static ComponentDelta compareComponent(final IApiComponent apiComponent, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final Set<String> apiComponentsIds, final IProgressMonitor monitor) {
+		if (apiComponent.isSystemComponent()) {
+			return new ComponentDelta(null, null);
+		}
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new ComponentDelta(null, new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED,
+					IDelta.API_COMPONENT, null, id, id));
+		}
+		apiComponentsIds.add(id);
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id, versionString,
+				versionString2);
+		IDelta delta = null;
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+						monitor);
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return new ComponentDelta(bundleVersionChangesDelta, delta);
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -529,15 +652,48 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the given scope
+	 * with the given API baseline.
+	 * <p>
+	 * If <code>parallel</code> is <code>true</code> the API components and
+	 * baselines in the scope are compared concurrently. The returned delta is
+	 * the same as for a sequential comparison.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallel whether the API components should be compared
+	 *            concurrently
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final boolean parallel, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
 		}
-		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
-		final Set<IDelta> deltas = new HashSet<>();
+		SubMonitor localmonitor = SubMonitor.convert(monitor, 3);
+		final Set<IDelta> deltas = parallel ? ConcurrentHashMap.newKeySet() : new HashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
+				continueOnResolverError, parallel, localmonitor.split(1));
 		scope.accept(visitor);
+		visitor.compareDeferredComponents(localmonitor.split(1));
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
@@ -38,22 +41,45 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	int visibilityModifiers;
 	boolean force;
 	boolean continueOnResolverError = false;
-	boolean containsErrors = false;
+	volatile boolean containsErrors = false;
+	boolean parallel = false;
 	SubMonitor monitor;
+	/**
+	 * Components whose comparison is deferred to
+	 * {@link #compareDeferredComponents(IProgressMonitor)} in parallel mode,
+	 * stored as pairs of reference component (possibly <code>null</code>) and
+	 * component
+	 */
+	final List<IApiComponent[]> deferredComponents = new ArrayList<>();
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, false, monitor);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param deltas the set collecting the deltas, must be thread-safe if
+	 *            <code>parallel</code> is <code>true</code>
+	 * @param parallel if <code>true</code> the comparison of visited API
+	 *            components is deferred until
+	 *            {@link #compareDeferredComponents(IProgressMonitor)} is called,
+	 *            which compares them concurrently
+	 */
+	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final boolean parallel, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
+		this.parallel = parallel;
 		this.monitor = monitor;
 	}
 
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.parallel, null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
@@ -109,6 +135,34 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.parallel) {
+			this.deferredComponents.add(new IApiComponent[] { referenceComponent, component });
+		} else {
+			compareComponent(referenceComponent, component);
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the API components whose comparison was deferred while visiting
+	 * the scope in parallel mode. Does nothing if the visitor is not in
+	 * parallel mode.
+	 *
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 */
+	public void compareDeferredComponents(IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, this.deferredComponents.size());
+		try {
+			ApiComparator.forEachParallel(this.deferredComponents.size(), i -> {
+				IApiComponent[] pair = this.deferredComponents.get(i);
+				compareComponent(pair[0], pair[1]);
+			}, subMonitor);
+		} finally {
+			this.deferredComponents.clear();
+		}
+	}
+
+	void compareComponent(IApiComponent referenceComponent, IApiComponent component) {
 		final Delta globalDelta = new Delta();
 		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
 		if (referenceComponent != null) {
@@ -127,7 +181,6 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				}
 			}
 		});
-		return false;
 	}
 
 	@Override
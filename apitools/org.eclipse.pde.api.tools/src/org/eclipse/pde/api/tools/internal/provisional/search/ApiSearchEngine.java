@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,6 +62,11 @@ public final class ApiSearchEngine {
 		private IApiSearchReporter reporter = null;
 		IApiElement element = null;
 		private SubMonitor monitor = null;
+		/**
+		 * Type roots of the current package whose references are extracted
+		 * when the package has been visited, only used in parallel mode
+		 */
+		private final List<IApiTypeRoot> pending = new ArrayList<>();
 
 		/**
 		 * Constructor
@@ -84,6 +89,10 @@ public final class ApiSearchEngine {
 			if (monitor.isCanceled()) {
 				return;
 			}
+			if (fParallel) {
+				pending.add(typeroot);
+				return;
+			}
 			try {
 				IApiType type = typeroot.getStructure();
 				if (type == null || !requestor.acceptMember(type)) {
@@ -102,6 +111,51 @@ public final class ApiSearchEngine {
 			}
 		}
 
+		/**
+		 * Extracts and resolves the references of the pending type roots
+		 * concurrently. The type structures are built concurrently as well,
+		 * while the requestor is only called on the searching thread and in
+		 * the order the type roots were visited.
+		 */
+		private void extractPending() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			List<IApiType> types = pending.parallelStream().map(typeroot -> {
+				if (monitor.isCanceled()) {
+					return null;
+				}
+				try {
+					return typeroot.getStructure();
+				} catch (CoreException ce) {
+					ApiPlugin.log(ce);
+					return null;
+				}
+			}).toList();
+			pending.clear();
+			List<IApiType> accepted = types.stream().filter(type -> type != null && requestor.acceptMember(type)).toList();
+			List<List<IReference>> references = accepted.parallelStream().map(type -> {
+				if (monitor.isCanceled()) {
+					return null;
+				}
+				try {
+					return getResolvedReferences(requestor, type, null);
+				} catch (CoreException ce) {
+					ApiPlugin.log(ce);
+					return null;
+				}
+			}).toList();
+			for (int i = 0; i < accepted.size() && !monitor.isCanceled(); i++) {
+				List<IReference> refs = references.get(i);
+				if (refs != null) {
+					collector.addAll(acceptReferences(requestor, accepted.get(i), refs, monitor.split(1)));
+					if (this.collector.size() >= COLLECTOR_MAX) {
+						reportResults();
+					}
+				}
+			}
+		}
+
 		@Override
 		public boolean visit(IApiComponent component) {
 			return requestor.acceptComponent(component);
@@ -109,9 +163,16 @@ public final class ApiSearchEngine {
 
 		@Override
 		public void endVisitPackage(String packageName) {
+			extractPending();
 			reportResults();
 		}
 
+		@Override
+		public void end(IApiTypeContainer container) {
+			// in case a container does not report the end of its packages
+			extractPending();
+		}
+
 		private void reportResults() {
 			reporter.reportResults(this.element, collector.toArray(new IReference[collector.size()]));
 			collector.clear();
@@ -123,6 +184,13 @@ public final class ApiSearchEngine {
 	 */
 	private String fRequestorContext = null;
 
+	/**
+	 * Whether the references of the types of a package are extracted
+	 * concurrently, see
+	 * {@link #search(IApiBaseline, IApiSearchRequestor, IApiSearchReporter, boolean, IProgressMonitor)}
+	 */
+	boolean fParallel = false;
+
 	/**
 	 * Returns the set of resolved references for the given {@link IApiType}
 	 *
@@ -235,6 +303,30 @@ public final class ApiSearchEngine {
 	 * @throws CoreException if the search fails
 	 */
 	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+		search(baseline, requestor, reporter, false, monitor);
+	}
+
+	/**
+	 * Searches for all of the use of API or internal code from the given
+	 * {@link IApiComponent} within the given {@link IApiBaseline}
+	 * <p>
+	 * If <code>parallel</code> is <code>true</code> the type structures and
+	 * references of the types of each package are extracted and resolved
+	 * concurrently. The requestor and the reporter are still only called from
+	 * the calling thread and in the same order as for a sequential search, so
+	 * they do not need to be thread-safe.
+	 * </p>
+	 *
+	 * @param baseline the baseline to search within
+	 * @param requestor the requestor to use for the search
+	 * @param reporter the reporter to use when reporting any search results to
+	 *            the user
+	 * @param parallel whether the references should be extracted concurrently
+	 * @param monitor the monitor to report progress to
+	 * @throws CoreException if the search fails
+	 */
+	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, boolean parallel, IProgressMonitor monitor) throws CoreException {
+		fParallel = parallel;
 		if (baseline == null || reporter == null || requestor == null) {
 			return;
 		}
@@ -0,0 +1,494 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.util.IndexFiles;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Binary index of an API use scan (XML directory) that can be visited with a
+ * {@link UseScanVisitor} instead of parsing the XML files with
+ * {@link UseScanParser}.
+ * <p>
+ * The index holds one block per referenced component (top level directory of
+ * the scan) with the references recorded from the XML files in the order the
+ * parser reports them. Each block is stamped with the names, sizes and
+ * modification times of its XML files. When the index is requested again only
+ * the directories whose stamp changed are parsed, the blocks of the others
+ * are reused.
+ * </p>
+ * <p>
+ * When running in the framework the index is persisted in the state location
+ * of the API tools plug-in and memory-mapped when it is loaded. Blocks are
+ * only decoded when they are visited, so visiting the references to a single
+ * component does not read the rest of the index.
+ * </p>
+ * <p>
+ * An index is immutable and may be visited concurrently.
+ * </p>
+ */
+public final class UseScanIndex {
+
+	private static final String INDEX_DIRECTORY = ".use_scan_indexes"; //$NON-NLS-1$
+	private static final int MAGIC = 0x41505553;
+	private static final int FORMAT_VERSION = 2;
+
+	private static final byte TAG_END = 0;
+	private static final byte TAG_REFERENCING_COMPONENT = 1;
+	private static final byte TAG_MEMBER = 2;
+	private static final byte TAG_REFERENCE = 3;
+
+	/**
+	 * The references to one component, stored in {@link #fBuffer}
+	 *
+	 * @param directory the name of the scan directory of the component
+	 * @param id the id of the referenced component
+	 * @param version the version of the referenced component or
+	 *            <code>null</code>
+	 * @param stamp the stamp of the XML files of the directory
+	 * @param offset the offset of the block in the buffer
+	 * @param length the length of the block
+	 */
+	private record Block(String directory, String id, String version, long stamp, int offset, int length) {
+	}
+
+	private final List<Block> fBlocks;
+	private final ByteBuffer fBuffer;
+
+	private UseScanIndex(List<Block> blocks, ByteBuffer buffer) {
+		fBlocks = blocks;
+		fBuffer = buffer;
+	}
+
+	/**
+	 * Returns the index of the use scan at the given location, reusing the
+	 * persisted index for all directories of the scan that did not change and
+	 * parsing the others.
+	 *
+	 * @param xmlLocation root of the API use scan (XML directory)
+	 * @param monitor progress monitor
+	 * @return the index of the use scan
+	 * @throws Exception if the use scan cannot be parsed
+	 */
+	public static UseScanIndex get(String xmlLocation, IProgressMonitor monitor) throws Exception {
+		File root = new File(xmlLocation);
+		if (!root.isDirectory()) {
+			throw new Exception(NLS.bind(SearchMessages.invalid_directory_name, xmlLocation));
+		}
+		SubMonitor localmonitor = SubMonitor.convert(monitor, 10);
+		File[] referees = listReferees(root);
+		Map<String, Long> stamps = new HashMap<>();
+		for (File referee : referees) {
+			stamps.put(referee.getName(), computeStamp(referee));
+		}
+		localmonitor.split(1);
+
+		Path indexFile = null;
+		UseScanIndex previous = null;
+		if (ApiPlugin.isRunningInFramework()) {
+			long scanStamp = 17;
+			for (File referee : referees) {
+				scanStamp = 31 * scanStamp + referee.getName().hashCode();
+				scanStamp = 31 * scanStamp + stamps.get(referee.getName());
+			}
+			indexFile = IndexFiles.getIndexFile(INDEX_DIRECTORY, root.getAbsolutePath(), scanStamp, FORMAT_VERSION);
+			previous = load(indexFile, root.getAbsolutePath());
+			if (previous == null) {
+				// reuse the blocks of the directories that did not change
+				previous = load(IndexFiles.findIndexFile(indexFile, root.getAbsolutePath(), FORMAT_VERSION),
+						root.getAbsolutePath());
+			}
+		}
+		Map<String, Block> previousBlocks = new HashMap<>();
+		if (previous != null) {
+			for (Block block : previous.fBlocks) {
+				previousBlocks.put(block.directory(), block);
+			}
+		}
+		Set<String> changed = new HashSet<>();
+		for (File referee : referees) {
+			Block block = previousBlocks.get(referee.getName());
+			if (block == null || block.stamp() != stamps.get(referee.getName())) {
+				changed.add(referee.getName());
+			}
+		}
+		if (previous != null && changed.isEmpty() && previousBlocks.size() == referees.length) {
+			return previous;
+		}
+
+		UseScanParser parser = new UseScanParser();
+		Recorder recorder = new Recorder();
+		if (!changed.isEmpty()) {
+			parser.parse(xmlLocation, pathname -> changed.contains(pathname.getName()), localmonitor.split(8),
+					recorder);
+		}
+		localmonitor.setWorkRemaining(1);
+
+		// assemble the new index from the parsed and the reused blocks
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		List<Block> blocks = new ArrayList<>(referees.length);
+		for (File referee : referees) {
+			String directory = referee.getName();
+			String[] idv = parser.getIdVersion(directory);
+			byte[] bytes;
+			if (changed.contains(directory)) {
+				bytes = recorder.getBlock(Factory.componentDescriptor(idv[0], idv[1]));
+			} else {
+				Block block = previousBlocks.get(directory);
+				bytes = new byte[block.length()];
+				previous.fBuffer.duplicate().position(block.offset()).get(bytes);
+			}
+			blocks.add(new Block(directory, idv[0], idv[1], stamps.get(directory), data.size(), bytes.length));
+			data.write(bytes);
+		}
+		UseScanIndex index = new UseScanIndex(Collections.unmodifiableList(blocks), ByteBuffer.wrap(data.toByteArray()));
+		if (indexFile != null) {
+			index.save(indexFile, root.getAbsolutePath());
+		}
+		localmonitor.split(1);
+		return index;
+	}
+
+	/**
+	 * Returns whether the use scan at the given location still consists of
+	 * the same directories with the same stamps as when this index was
+	 * created, e.g. because it was not generated again in place.
+	 *
+	 * @param xmlLocation root of the API use scan (XML directory)
+	 * @return whether the index reflects the current use scan
+	 */
+	public boolean isUpToDate(String xmlLocation) {
+		File[] referees = listReferees(new File(xmlLocation));
+		if (referees == null || referees.length != fBlocks.size()) {
+			return false;
+		}
+		for (int i = 0; i < referees.length; i++) {
+			Block block = fBlocks.get(i);
+			if (!block.directory().equals(referees[i].getName()) || block.stamp() != computeStamp(referees[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Visits the references of the use scan. Only the references to
+	 * components with the given id are visited, or all references if the id
+	 * is <code>null</code>. The visitor is called in the same order as by
+	 * {@link UseScanParser#parse(String, IProgressMonitor, UseScanVisitor)}.
+	 *
+	 * @param visitor the visitor
+	 * @param componentId the id of the referenced components to visit or
+	 *            <code>null</code>
+	 */
+	public void accept(UseScanVisitor visitor, String componentId) {
+		visitor.visitScan();
+		try {
+			for (Block block : fBlocks) {
+				if (componentId == null || componentId.equals(block.id())) {
+					IComponentDescriptor target = Factory.componentDescriptor(block.id(), block.version());
+					if (visitor.visitComponent(target)) {
+						visitBlock(block, target, visitor);
+					}
+					visitor.endVisitComponent(target);
+				}
+			}
+		} finally {
+			visitor.endVisitScan();
+		}
+	}
+
+	private void visitBlock(Block block, IComponentDescriptor target, UseScanVisitor visitor) {
+		// a duplicate has its own position, so blocks can be visited concurrently
+		ByteBuffer buffer = fBuffer.duplicate();
+		buffer.position(block.offset());
+		IComponentDescriptor referencingComponent = null;
+		IMemberDescriptor member = null;
+		boolean visitMembers = false;
+		boolean visitReferences = false;
+		while (true) {
+			byte tag = buffer.get();
+			switch (tag) {
+				case TAG_REFERENCING_COMPONENT -> {
+					if (member != null && visitMembers) {
+						visitor.endVisitMember(member);
+					}
+					member = null;
+					if (referencingComponent != null) {
+						visitor.endVisitReferencingComponent(referencingComponent);
+					}
+					referencingComponent = Factory.componentDescriptor(IndexFiles.readString(buffer),
+							IndexFiles.readString(buffer));
+					visitMembers = visitor.visitReferencingComponent(referencingComponent);
+				}
+				case TAG_MEMBER -> {
+					if (member != null && visitMembers) {
+						visitor.endVisitMember(member);
+					}
+					member = readMember(buffer);
+					if (visitMembers) {
+						visitReferences = visitor.visitMember(member);
+					}
+				}
+				case TAG_REFERENCE -> {
+					IMemberDescriptor origin = readMember(buffer);
+					int line = buffer.getInt();
+					int kind = buffer.getInt();
+					int flags = buffer.getInt();
+					int visibility = buffer.getInt();
+					String[] messages = null;
+					int count = buffer.getInt();
+					if (count >= 0) {
+						messages = new String[count];
+						for (int i = 0; i < count; i++) {
+							messages[i] = IndexFiles.readString(buffer);
+						}
+					}
+					if (visitMembers && visitReferences) {
+						visitor.visitReference(Factory.referenceDescriptor(referencingComponent, origin, line, target,
+								member, kind, flags, visibility, messages));
+					}
+				}
+				default -> {
+					// TAG_END
+					if (member != null && visitMembers) {
+						visitor.endVisitMember(member);
+					}
+					if (referencingComponent != null) {
+						visitor.endVisitReferencingComponent(referencingComponent);
+					}
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the visited references as index blocks, one per referenced
+	 * component
+	 */
+	private static final class Recorder extends UseScanVisitor {
+
+		private final Map<IComponentDescriptor, byte[]> fBlocks = new HashMap<>();
+		private ByteArrayOutputStream fBytes;
+		private DataOutputStream fOut;
+
+		byte[] getBlock(IComponentDescriptor component) {
+			byte[] block = fBlocks.get(component);
+			// a directory without references still needs an end tag
+			return block != null ? block : new byte[] { TAG_END };
+		}
+
+		@Override
+		public boolean visitComponent(IComponentDescriptor target) {
+			fBytes = new ByteArrayOutputStream();
+			fOut = new DataOutputStream(fBytes);
+			return true;
+		}
+
+		@Override
+		public void endVisitComponent(IComponentDescriptor target) {
+			try {
+				fOut.writeByte(TAG_END);
+				fBlocks.put(target, fBytes.toByteArray());
+			} catch (IOException e) {
+				// cannot happen when writing to memory
+			}
+		}
+
+		@Override
+		public boolean visitReferencingComponent(IComponentDescriptor component) {
+			try {
+				fOut.writeByte(TAG_REFERENCING_COMPONENT);
+				IndexFiles.writeString(fOut, component.getId());
+				IndexFiles.writeString(fOut, component.getVersion());
+			} catch (IOException e) {
+				// cannot happen when writing to memory
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visitMember(IMemberDescriptor referencedMember) {
+			try {
+				fOut.writeByte(TAG_MEMBER);
+				writeMember(fOut, referencedMember);
+			} catch (IOException e) {
+				// cannot happen when writing to memory
+			}
+			return true;
+		}
+
+		@Override
+		public void visitReference(IReferenceDescriptor reference) {
+			try {
+				fOut.writeByte(TAG_REFERENCE);
+				writeMember(fOut, reference.getMember());
+				fOut.writeInt(reference.getLineNumber());
+				fOut.writeInt(reference.getReferenceKind());
+				fOut.writeInt(reference.getReferenceFlags());
+				fOut.writeInt(reference.getVisibility());
+				String[] messages = reference.getProblemMessages();
+				if (messages == null) {
+					fOut.writeInt(-1);
+				} else {
+					fOut.writeInt(messages.length);
+					for (String message : messages) {
+						IndexFiles.writeString(fOut, message);
+					}
+				}
+			} catch (IOException e) {
+				// cannot happen when writing to memory
+			}
+		}
+	}
+
+	/**
+	 * Returns the directories of the referenced components of the use scan in
+	 * the order of their blocks, or <code>null</code> if the use scan does not
+	 * exist.
+	 */
+	private static File[] listReferees(File root) {
+		File[] referees = root.listFiles((FileFilter) pathname -> pathname.isDirectory() && !pathname.isHidden());
+		if (referees != null) {
+			Arrays.sort(referees, Util.filesorter);
+		}
+		return referees;
+	}
+
+	/**
+	 * Computes a stamp from the relative paths, sizes and modification times
+	 * of the XML files in the given directory.
+	 */
+	private static long computeStamp(File directory) {
+		File[] files = Util.getAllFiles(directory, pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml")); //$NON-NLS-1$
+		if (files == null) {
+			return 0;
+		}
+		Arrays.sort(files);
+		int prefix = directory.getAbsolutePath().length();
+		long stamp = 17;
+		for (File file : files) {
+			stamp = 31 * stamp + file.getAbsolutePath().substring(prefix).hashCode();
+			stamp = 31 * stamp + file.length();
+			stamp = 31 * stamp + file.lastModified();
+		}
+		return stamp;
+	}
+
+	private static UseScanIndex load(Path indexFile, String location) {
+		try {
+			ByteBuffer buffer = IndexFiles.map(indexFile, location, MAGIC, FORMAT_VERSION);
+			if (buffer == null) {
+				return null;
+			}
+			int count = buffer.getInt();
+			List<Block> blocks = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				blocks.add(new Block(IndexFiles.readString(buffer), IndexFiles.readString(buffer),
+						IndexFiles.readString(buffer), buffer.getLong(), buffer.getInt(), buffer.getInt()));
+			}
+			// block offsets are relative to the end of the block table
+			return new UseScanIndex(Collections.unmodifiableList(blocks), buffer.slice());
+		} catch (IOException | RuntimeException e) {
+			// a corrupt index is simply rebuilt
+			if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+				System.out.println("Discarding unreadable use scan index " + indexFile + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	private void save(Path indexFile, String location) {
+		try {
+			IndexFiles.write(indexFile, location, MAGIC, FORMAT_VERSION, out -> {
+				out.writeInt(fBlocks.size());
+				for (Block block : fBlocks) {
+					IndexFiles.writeString(out, block.directory());
+					IndexFiles.writeString(out, block.id());
+					IndexFiles.writeString(out, block.version());
+					out.writeLong(block.stamp());
+					out.writeInt(block.offset());
+					out.writeInt(block.length());
+				}
+				ByteBuffer buffer = fBuffer.duplicate();
+				buffer.position(0);
+				byte[] bytes = new byte[buffer.remaining()];
+				buffer.get(bytes);
+				out.write(bytes);
+			});
+		} catch (IOException e) {
+			// the index is only an optimization, it is rebuilt the next time
+			if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+				System.out.println("Failed to write use scan index " + indexFile + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	static void writeMember(DataOutputStream out, IMemberDescriptor member) throws IOException {
+		out.writeInt(member.getElementType());
+		switch (member.getElementType()) {
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) member;
+				IndexFiles.writeString(out, method.getEnclosingType().getQualifiedName());
+				IndexFiles.writeString(out, method.getName());
+				IndexFiles.writeString(out, method.getSignature());
+			}
+			case IElementDescriptor.FIELD -> {
+				IFieldDescriptor field = (IFieldDescriptor) member;
+				IndexFiles.writeString(out, field.getEnclosingType().getQualifiedName());
+				IndexFiles.writeString(out, field.getName());
+			}
+			default -> IndexFiles.writeString(out, ((IReferenceTypeDescriptor) member).getQualifiedName());
+		}
+	}
+
+	static IMemberDescriptor readMember(ByteBuffer buffer) {
+		int elementType = buffer.getInt();
+		String typeName = IndexFiles.readString(buffer);
+		return switch (elementType) {
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(typeName, IndexFiles.readString(buffer),
+					IndexFiles.readString(buffer));
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(typeName, IndexFiles.readString(buffer));
+			default -> Factory.typeDescriptor(typeName);
+		};
+	}
+}
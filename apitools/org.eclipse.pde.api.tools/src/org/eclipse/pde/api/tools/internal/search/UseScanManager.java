@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -89,6 +91,12 @@ public class UseScanManager {
 
 	private String[] fLocations = null;
 
+	/**
+	 * Indexes of the use scans at the resolved scan locations, see
+	 * {@link #getIndex(String, IProgressMonitor)}
+	 */
+	private final Map<String, UseScanIndex> fIndexes = new ConcurrentHashMap<>();
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -211,7 +219,12 @@ public class UseScanManager {
 							}
 							throw new Exception(message);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
+						UseScanIndex index = getIndex(locations[i], iterationMonitor);
+						if (index != null) {
+							index.accept(visitor, apiComponent.getSymbolicName());
+						} else {
+							parser.parse(locations[i], iterationMonitor, visitor);
+						}
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
@@ -229,6 +242,29 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the index of the use scan at the given location, creating or
+	 * updating it if it was not requested before in this session or if the use
+	 * scan was written since, see {@link #scanChanged(String)}. Checking
+	 * whether the XML files of a scan changed requires reading the attributes
+	 * of all of them, so it is not done for every request.
+	 *
+	 * @return the index or <code>null</code> if it cannot be created
+	 */
+	private UseScanIndex getIndex(String location, IProgressMonitor monitor) {
+		UseScanIndex index = fIndexes.get(location);
+		if (index == null) {
+			try {
+				index = UseScanIndex.get(location, monitor);
+				fIndexes.put(location, index);
+			} catch (Exception e) {
+				// fall back to parsing the scan
+				ApiPlugin.log(e);
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * Returns the scan
 	 */
@@ -368,6 +404,22 @@ public class UseScanManager {
 	 */
 	public void setReportLocations(String[] locations) {
 		fLocations = locations;
+		fIndexes.clear();
+	}
+
+	/**
+	 * Discards the indexes of the use scans at, above or below the given
+	 * location, e.g. because a use scan is generated again at that location.
+	 * They are updated when they are requested again.
+	 *
+	 * @param location the absolute path of the changed use scan
+	 */
+	public void scanChanged(String location) {
+		String changed = new File(location).getAbsolutePath() + File.separator;
+		fIndexes.keySet().removeIf(l -> {
+			String path = new File(l).getAbsolutePath() + File.separator;
+			return path.startsWith(changed) || changed.startsWith(path);
+		});
 	}
 
 	/**
@@ -388,5 +440,6 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		fIndexes.clear();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -222,6 +222,20 @@ public class UseScanParser {
 	 * @param monitor progress monitor
 	 */
 	public void parse(String xmlLocation, IProgressMonitor monitor, UseScanVisitor usv) throws Exception {
+		parse(xmlLocation, null, monitor, usv);
+	}
+
+	/**
+	 * Resolves references from an API use scan rooted at the specified location
+	 * in the file system in the given baseline, only visiting the referenced
+	 * components whose directories are accepted by the given filter.
+	 *
+	 * @param xmlLocation root of API use scan (XML directory).
+	 * @param refereeFilter filter for the top level directories of the
+	 *            referenced components or <code>null</code> to visit all
+	 * @param monitor progress monitor
+	 */
+	public void parse(String xmlLocation, FileFilter refereeFilter, IProgressMonitor monitor, UseScanVisitor usv) throws Exception {
 		if (xmlLocation == null) {
 			throw new Exception(SearchMessages.missing_xml_files_location);
 		}
@@ -244,7 +258,7 @@ public class UseScanParser {
 					.createSAXParserWithErrorOnDOCTYPE();
 			// Treat each top level directory as a producer component
 			for (File referee : referees) {
-				if (referee.isDirectory()) {
+				if (referee.isDirectory() && (refereeFilter == null || refereeFilter.accept(referee))) {
 					String[] idv = getIdVersion(referee.getName());
 					IComponentDescriptor tcomp = Factory.componentDescriptor(idv[0], idv[1]);
 					enterTargetComponent(tcomp);
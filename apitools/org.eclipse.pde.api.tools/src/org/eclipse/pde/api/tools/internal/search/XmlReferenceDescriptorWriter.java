@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -105,6 +105,7 @@ public class XmlReferenceDescriptorWriter {
 				}
 				collateResults(references);
 				writeXML(parent);
+				UseScanManager.getInstance().scanChanged(fLocation);
 			} catch (Exception e) {
 				ApiPlugin.log(e);
 			} finally {
@@ -0,0 +1,328 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Reads and writes the binary index files that API tools keeps in its state
+ * location, e.g. for archives and API use scans.
+ * <p>
+ * An index file starts with a magic number, a format version and the location
+ * of the indexed file. Its name is derived from a digest of that location,
+ * the stamp of the indexed content and the format version, so an existing
+ * index file is never replaced while it may still be memory-mapped. Instead
+ * the other index files of the same location are deleted when a new one is
+ * written, and index files of locations that no longer exist are removed by a
+ * background job once per session.
+ * </p>
+ */
+public final class IndexFiles {
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+	private static final String TMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+	private static final long TMP_FILE_AGE = 60 * 60 * 1000;
+
+	/**
+	 * The index directories that were pruned in this session
+	 */
+	private static final Set<String> fPrunedDirectories = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Writes the content of an index file
+	 */
+	@FunctionalInterface
+	public interface ContentWriter {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private IndexFiles() { // static use only
+	}
+
+	/**
+	 * Returns the index file for the given location and stamp in the given
+	 * directory of the API tools state location. Schedules the removal of
+	 * index files of locations that no longer exist on the first call for a
+	 * directory.
+	 *
+	 * @param directory the name of the index directory
+	 * @param location the location of the indexed file
+	 * @param stamp the stamp of the indexed content, e.g. derived from its size
+	 *            and modification time
+	 * @param formatVersion the current format version of the index
+	 * @return the index file, which may not exist
+	 */
+	public static Path getIndexFile(String directory, String location, long stamp, int formatVersion) {
+		Path indexDirectory = ApiPlugin.getDefault().getStateLocation().append(directory).toPath();
+		if (fPrunedDirectories.add(directory)) {
+			Job job = Job.createSystem("Removing stale API tools indexes", monitor -> prune(indexDirectory)); //$NON-NLS-1$
+			job.setPriority(Job.DECORATE);
+			job.schedule();
+		}
+		return indexDirectory
+				.resolve(getPrefix(location) + Long.toHexString(stamp) + '_' + formatVersion + INDEX_EXTENSION);
+	}
+
+	/**
+	 * Returns the most recently written index file of the given location in
+	 * the given format, regardless of its stamp.
+	 *
+	 * @param indexFile an index file of the location, see
+	 *            {@link #getIndexFile(String, String, long, int)}
+	 * @param location the location of the indexed file
+	 * @param formatVersion the current format version of the index
+	 * @return the index file or <code>null</code> if there is none
+	 */
+	public static Path findIndexFile(Path indexFile, String location, int formatVersion) {
+		Path directory = indexFile.getParent();
+		if (!Files.isDirectory(directory)) {
+			return null;
+		}
+		Path latest = null;
+		long latestModified = Long.MIN_VALUE;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+				getPrefix(location) + "*_" + formatVersion + INDEX_EXTENSION)) { //$NON-NLS-1$
+			for (Path file : files) {
+				long lastModified = Files.getLastModifiedTime(file).toMillis();
+				if (lastModified > latestModified) {
+					latest = file;
+					latestModified = lastModified;
+				}
+			}
+		} catch (IOException e) {
+			// no previous index
+		}
+		return latest;
+	}
+
+	/**
+	 * Memory-maps the given index file if it exists and has the given magic
+	 * number, format version and location. The mapping stays valid until the
+	 * returned buffer is garbage collected.
+	 *
+	 * @param indexFile the index file
+	 * @param location the location of the indexed file
+	 * @param magic the magic number of the index
+	 * @param formatVersion the current format version of the index
+	 * @return the mapped content following the header or <code>null</code>
+	 * @throws IOException if the file cannot be read
+	 */
+	public static ByteBuffer map(Path indexFile, String location, int magic, int formatVersion) throws IOException {
+		if (indexFile == null || !Files.isRegularFile(indexFile)) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != magic || buffer.getInt() != formatVersion || !location.equals(readString(buffer))) {
+				return null;
+			}
+			return buffer;
+		}
+	}
+
+	/**
+	 * Writes the given index file with the given magic number, format version
+	 * and location. The content is written to a temporary file first that is
+	 * then moved to the index file, so readers never see a partially written
+	 * file. Afterwards the other index files of the location are deleted, as
+	 * far as they are not in use.
+	 *
+	 * @param indexFile the index file, see
+	 *            {@link #getIndexFile(String, String, long, int)}
+	 * @param location the location of the indexed file
+	 * @param magic the magic number of the index
+	 * @param formatVersion the current format version of the index
+	 * @param writer writes the content following the header
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Path indexFile, String location, int magic, int formatVersion, ContentWriter writer)
+			throws IOException {
+		Path directory = indexFile.getParent();
+		Files.createDirectories(directory);
+		Path tmp = Files.createTempFile(directory, indexFile.getFileName().toString(), TMP_EXTENSION);
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(magic);
+				out.writeInt(formatVersion);
+				writeString(out, location);
+				writer.write(out);
+			}
+			try {
+				Files.move(tmp, indexFile);
+			} catch (FileAlreadyExistsException e) {
+				// an unreadable index of the same content, fails if it is mapped
+				Files.delete(indexFile);
+				Files.move(tmp, indexFile);
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+				getPrefix(location) + '*' + INDEX_EXTENSION)) {
+			for (Path file : files) {
+				if (!file.equals(indexFile)) {
+					deleteIfUnused(file);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes a length prefixed UTF-8 string, which unlike
+	 * {@link DataOutput#writeUTF(String)} is not limited to 64k.
+	 *
+	 * @param out the output
+	 * @param value the string or <code>null</code>
+	 * @throws IOException if the string cannot be written
+	 */
+	public static void writeString(DataOutput out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutput, String)}.
+	 *
+	 * @param buffer the buffer to read from
+	 * @return the string or <code>null</code>
+	 * @throws BufferUnderflowException if the buffer does not contain the
+	 *             string, e.g. because the index is corrupt
+	 */
+	public static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		if (length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the file name prefix of the index files of the given location
+	 */
+	private static String getPrefix(String location) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(location.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			StringBuilder prefix = new StringBuilder(34);
+			for (int i = 0; i < 16; i++) {
+				prefix.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+				prefix.append(Character.forDigit(digest[i] & 0xF, 16));
+			}
+			return prefix.append('_').toString();
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Deletes the index files of locations that no longer exist, all but the
+	 * latest index file of each location and temporary files left over by
+	 * earlier sessions.
+	 */
+	private static void prune(Path directory) {
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+		Map<String, Path> latest = new HashMap<>();
+		long tmpFileLimit = System.currentTimeMillis() - TMP_FILE_AGE;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				if (name.endsWith(TMP_EXTENSION)) {
+					// other temporary files may still be written
+					if (Files.getLastModifiedTime(file).toMillis() < tmpFileLimit) {
+						deleteIfUnused(file);
+					}
+					continue;
+				}
+				if (!name.endsWith(INDEX_EXTENSION)) {
+					continue;
+				}
+				String location = readLocation(file);
+				if (location == null || !new File(location).exists()) {
+					deleteIfUnused(file);
+					continue;
+				}
+				Path other = latest.put(location, file);
+				if (other != null) {
+					if (Files.getLastModifiedTime(other).compareTo(Files.getLastModifiedTime(file)) > 0) {
+						latest.put(location, other);
+						other = file;
+					}
+					deleteIfUnused(other);
+				}
+			}
+		} catch (IOException e) {
+			// pruned again in the next session
+		}
+	}
+
+	private static String readLocation(Path file) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			in.readInt(); // magic
+			in.readInt(); // format version
+			int length = in.readInt();
+			if (length < 0 || length > Files.size(file)) {
+				return null;
+			}
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static void deleteIfUnused(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// still mapped on some platforms, deleted later
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,11 @@ public class APIFreezeTask extends CommonUtilsTask {
 	 * will be included in the output xml. Set to <code>true</code> by default.
 	 */
 	private boolean processUnresolvedBundles = true;
+	/**
+	 * When <code>true</code>, the API components are compared concurrently.
+	 * Set to <code>false</code> by default.
+	 */
+	private boolean parallel = false;
 	/**
 	 * If {@link #continueOnResolverError} is <code>true</code> this map will
 	 * store the resolver errors of components. Maps String component IDs to an
@@ -148,7 +153,7 @@ public class APIFreezeTask extends CommonUtilsTask {
 			time = System.currentTimeMillis();
 		}
 		try {
-			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, null);
+			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, parallel, null);
 		} catch (CoreException e) {
 			// ignore
 		} finally {
@@ -388,6 +393,17 @@ public class APIFreezeTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set whether the API components of the baselines should be compared
+	 * concurrently. The report is the same either way. Defaults to
+	 * <code>false</code>
+	 *
+	 * @param parallel whether to compare the API components concurrently
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
 	/**
 	 * Modifies the given doc to add a new element under the root element that
 	 * lists all the components that had resolver errors which could affect the
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,6 +64,10 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 * @since 1.1
 	 */
 	private boolean considerillegaluse = false;
+	/**
+	 * If the references of the searched types should be extracted concurrently
+	 */
+	private boolean parallel = true;
 	/**
 	 * Set of project names that were not searched
 	 */
@@ -227,6 +231,22 @@ public final class ApiUseTask extends CommonUtilsTask {
 		this.considerillegaluse = Boolean.toString(true).equals(considerillegaluse);
 	}
 
+	/**
+	 * Set whether the references of the searched types should be extracted
+	 * concurrently. The report is the same either way.
+	 * <p>
+	 * The possible values are: <code>true</code>, <code>false</code>
+	 * </p>
+	 * <p>
+	 * Default is <code>true</code>.
+	 * </p>
+	 *
+	 * @param parallel the given value
+	 */
+	public void setParallel(String parallel) {
+		this.parallel = !Boolean.toString(false).equals(parallel);
+	}
+
 	/**
 	 * Sets any package name patterns to consider as API packages.
 	 *
@@ -322,7 +342,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
-			engine.search(baseline, requestor, reporter, null);
+			engine.search(baseline, requestor, reporter, this.parallel, null);
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Persistent index of the entries of target platform jars that are relevant
+ * to a {@link TargetPlatformContributionCollector}. The entry names are read
+ * from the central directory of a jar, without inflating any entry, and are
+ * reused as long as the size and modification time of the jar are unchanged.
+ * The index is stored in the state location of this bundle, one file per
+ * collector file pattern.
+ * <p>
+ * The index may be queried concurrently.
+ * </p>
+ */
+final class ContributionIndex {
+
+	private static final String INDEX_FILE_PREFIX = ".contribution_index_"; //$NON-NLS-1$
+	private static final int MAGIC = 0x45344349;
+	private static final int FORMAT_VERSION = 1;
+
+	private record Entry(long size, long lastModified, List<String> names) {
+	}
+
+	private final String pattern;
+	private final File file;
+	private final Map<String, Entry> storedEntries;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicBoolean changed = new AtomicBoolean();
+
+	private ContributionIndex(String pattern, File file, Map<String, Entry> storedEntries) {
+		this.pattern = pattern;
+		this.file = file;
+		this.storedEntries = storedEntries;
+	}
+
+	/**
+	 * Loads the index of the given file pattern from the state location. If no
+	 * index exists or it cannot be read, an empty index is returned.
+	 *
+	 * @param pattern
+	 *            the pattern of the file names that are indexed
+	 * @return the loaded index, never <code>null</code>
+	 */
+	static ContributionIndex load(String pattern) {
+		final Bundle bundle = FrameworkUtil.getBundle(ContributionIndex.class);
+		if (bundle == null) {
+			return new ContributionIndex(pattern, null, Map.of());
+		}
+		final File file = new File(Platform.getStateLocation(bundle).toFile(),
+				INDEX_FILE_PREFIX + Integer.toHexString(pattern.hashCode()));
+		final Map<String, Entry> entries = new HashMap<>();
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(
+					new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+				if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION && pattern.equals(readString(in))) {
+					final int count = in.readInt();
+					for (int i = 0; i < count; i++) {
+						final String location = readString(in);
+						final long size = in.readLong();
+						final long lastModified = in.readLong();
+						final int nameCount = in.readInt();
+						final List<String> names = new ArrayList<>(nameCount);
+						for (int j = 0; j < nameCount; j++) {
+							names.add(readString(in));
+						}
+						entries.put(location, new Entry(size, lastModified, names));
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				// a corrupt index is simply rebuilt
+				entries.clear();
+			}
+		}
+		return new ContributionIndex(pattern, file, entries);
+	}
+
+	/**
+	 * Returns the names of the entries of the given jar that are accepted by
+	 * the given filter, either from the index or by reading the central
+	 * directory of the jar if it changed since it was indexed. The filter must
+	 * be the same for all calls on an index.
+	 *
+	 * @param jar
+	 *            the jar to list
+	 * @param filter
+	 *            selects the entry names to index
+	 * @return the accepted entry names in the order of the central directory
+	 * @throws IOException
+	 *             if the jar cannot be read
+	 */
+	List<String> getEntryNames(File jar, Predicate<String> filter) throws IOException {
+		final String location = jar.getAbsolutePath();
+		final BasicFileAttributes attributes = Files.readAttributes(jar.toPath(), BasicFileAttributes.class);
+		final long size = attributes.size();
+		final long lastModified = attributes.lastModifiedTime().toMillis();
+		Entry entry = entries.get(location);
+		if (entry == null) {
+			entry = storedEntries.get(location);
+		}
+		if (entry == null || entry.size() != size || entry.lastModified() != lastModified) {
+			final List<String> names = new ArrayList<>();
+			try (ZipFile zip = new ZipFile(jar)) {
+				final Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+				while (zipEntries.hasMoreElements()) {
+					final ZipEntry zipEntry = zipEntries.nextElement();
+					if (!zipEntry.isDirectory() && filter.test(zipEntry.getName())) {
+						names.add(zipEntry.getName());
+					}
+				}
+			}
+			entry = new Entry(size, lastModified, names);
+			changed.set(true);
+		}
+		entries.put(location, entry);
+		return entry.names();
+	}
+
+	/**
+	 * Writes the index back to the state location if any jar was indexed.
+	 * Stored entries that were not requested are retained as long as their
+	 * jar still exists.
+	 */
+	void save() {
+		if (file == null || (!changed.get() && entries.size() == storedEntries.size())) {
+			return;
+		}
+		final Map<String, Entry> toSave = new HashMap<>(entries);
+		storedEntries.forEach((location, entry) -> {
+			if (!toSave.containsKey(location) && new File(location).isFile()) {
+				toSave.put(location, entry);
+			}
+		});
+		synchronized (ContributionIndex.class) {
+			final File tmp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+					out.writeInt(MAGIC);
+					out.writeInt(FORMAT_VERSION);
+					writeString(out, pattern);
+					out.writeInt(toSave.size());
+					for (final Map.Entry<String, Entry> e : toSave.entrySet()) {
+						final Entry entry = e.getValue();
+						writeString(out, e.getKey());
+						out.writeLong(entry.size());
+						out.writeLong(entry.lastModified());
+						out.writeInt(entry.names().size());
+						for (final String name : entry.names()) {
+							writeString(out, name);
+						}
+					}
+				}
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				changed.set(false);
+			} catch (final IOException e) {
+				ILog.get().error("Failed to save the contribution index " + file, e); //$NON-NLS-1$
+				tmp.delete();
+			}
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		final byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
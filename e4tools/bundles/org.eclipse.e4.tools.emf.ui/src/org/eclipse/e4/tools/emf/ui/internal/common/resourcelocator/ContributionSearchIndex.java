@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+
+/**
+ * In-memory search index over a snapshot of the entries of a
+ * {@link TargetPlatformContributionCollector}. It keeps posting lists (sorted
+ * entry positions) per case folded trigram of the entry names, per bundle and
+ * per package, so that a query only has to check the entries that contain all
+ * literal fragments of the name pattern and belong to the requested bundles and
+ * packages instead of all entries.
+ * <p>
+ * The index only narrows down the candidates, each candidate still has to be
+ * matched against the query. It is immutable and may be queried concurrently.
+ * </p>
+ */
+final class ContributionSearchIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Entry[] entries;
+	private final Map<Long, int[]> trigramPostings;
+	private final Map<String, int[]> bundlePostings;
+	private final Map<String, int[]> packagePostings;
+
+	/**
+	 * Growable list of ascending entry positions
+	 */
+	private static final class Postings {
+		int[] positions = new int[4];
+		int size;
+
+		void add(int position) {
+			// an entry adds each of its trigrams only once
+			if (size > 0 && positions[size - 1] == position) {
+				return;
+			}
+			if (size == positions.length) {
+				positions = Arrays.copyOf(positions, size * 2);
+			}
+			positions[size++] = position;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(positions, size);
+		}
+	}
+
+	ContributionSearchIndex(List<Entry> snapshot) {
+		entries = snapshot.toArray(new Entry[0]);
+		final Map<Long, Postings> trigrams = new HashMap<>();
+		final Map<String, Postings> bundles = new HashMap<>();
+		final Map<String, Postings> packages = new HashMap<>();
+		for (int i = 0; i < entries.length; i++) {
+			final Entry e = entries[i];
+			final String name = e.name;
+			for (int j = 0; j + 3 <= name.length(); j++) {
+				trigrams.computeIfAbsent(trigram(name, j), t -> new Postings()).add(i);
+			}
+			if (e.bundleSymName != null) {
+				bundles.computeIfAbsent(e.bundleSymName, b -> new Postings()).add(i);
+			}
+			if (e.pakage != null) {
+				packages.computeIfAbsent(e.pakage, p -> new Postings()).add(i);
+			}
+		}
+		trigramPostings = toArrays(trigrams);
+		bundlePostings = toArrays(bundles);
+		packagePostings = toArrays(packages);
+	}
+
+	private static <K> Map<K, int[]> toArrays(Map<K, Postings> postings) {
+		final Map<K, int[]> result = new HashMap<>(postings.size() * 4 / 3 + 1);
+		postings.forEach((key, list) -> result.put(key, list.toArray()));
+		return result;
+	}
+
+	/**
+	 * @return the number of entries in the snapshot this index was built from
+	 */
+	int size() {
+		return entries.length;
+	}
+
+	Entry get(int position) {
+		return entries[position];
+	}
+
+	/**
+	 * Returns the positions of the entries that may match the given query, in
+	 * ascending order. An entry is a candidate if its name contains every
+	 * trigram of the literal fragments of the name pattern and it belongs to
+	 * one of the given bundles and packages (if any are given).
+	 *
+	 * @param namePattern
+	 *            the name pattern, where <code>*</code> matches any sequence
+	 *            and <code>?</code> any character, matched case insensitively
+	 *            anywhere in the name
+	 * @param bundles
+	 *            the bundles to restrict the query to or <code>null</code>
+	 * @param packages
+	 *            the packages to restrict the query to or <code>null</code>
+	 * @return the positions of the candidate entries
+	 */
+	int[] getCandidates(String namePattern, Collection<String> bundles, Collection<String> packages) {
+		int[] candidates = null;
+		if (namePattern != null) {
+			for (final String fragment : namePattern.split("[*?]")) { //$NON-NLS-1$
+				for (int j = 0; j + 3 <= fragment.length(); j++) {
+					candidates = intersect(candidates, trigramPostings.getOrDefault(trigram(fragment, j), EMPTY));
+					if (candidates.length == 0) {
+						return candidates;
+					}
+				}
+			}
+		}
+		if (bundles != null && !bundles.isEmpty()) {
+			candidates = intersect(candidates, union(bundlePostings, bundles));
+		}
+		if (packages != null && !packages.isEmpty()) {
+			candidates = intersect(candidates, union(packagePostings, packages));
+		}
+		if (candidates == null) {
+			candidates = new int[entries.length];
+			Arrays.setAll(candidates, i -> i);
+		}
+		return candidates;
+	}
+
+	private static int[] union(Map<String, int[]> postings, Collection<String> keys) {
+		int[] result = EMPTY;
+		for (final String key : keys) {
+			final int[] list = postings.get(key);
+			if (list != null) {
+				result = merge(result, list);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the ascending positions contained in both lists, if the first
+	 *         list is <code>null</code> the second list
+	 */
+	private static int[] intersect(int[] first, int[] second) {
+		if (first == null) {
+			return second;
+		}
+		final int[] result = new int[Math.min(first.length, second.length)];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.length && j < second.length) {
+			if (first[i] < second[j]) {
+				i++;
+			} else if (first[i] > second[j]) {
+				j++;
+			} else {
+				result[size++] = first[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * @return the ascending positions contained in any of the lists
+	 */
+	private static int[] merge(int[] first, int[] second) {
+		final int[] result = new int[first.length + second.length];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.length || j < second.length) {
+			if (j == second.length || (i < first.length && first[i] < second[j])) {
+				result[size++] = first[i++];
+			} else if (i == first.length || second[j] < first[i]) {
+				result[size++] = second[j++];
+			} else {
+				result[size++] = first[i++];
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	private static long trigram(String s, int start) {
+		return ((long) fold(s.charAt(start)) << 32) | ((long) fold(s.charAt(start + 1)) << 16)
+				| fold(s.charAt(start + 2));
+	}
+
+	/**
+	 * Folds the case of a character the way a case insensitive unicode pattern
+	 * compares characters
+	 */
+	private static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,9 +23,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,8 +32,6 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
@@ -43,6 +40,7 @@ import javax.xml.xpath.XPathFactory;
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -92,6 +90,8 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	HashSet<String> cachePackage = new HashSet<>();
 	HashSet<String> cacheLocation = new HashSet<>();
 	private Pattern patternFile;
+	private ContributionIndex index;
+	private ContributionSearchIndex searchIndex;
 	protected String cacheName;
 	protected boolean stopFiltering;
 
@@ -131,7 +131,10 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				boolean more = false;
 
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
+				final ContributionSearchIndex searchIndex = getSearchIndex();
+				for (final int position : searchIndex.getCandidates(filter.namePattern, filter.getBundles(),
+						filter.getPackages())) {
+					final Entry e = searchIndex.get(position);
 					if (stopFiltering) {
 						break;
 					}
@@ -224,6 +227,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
+				clearSearchIndex();
 				cacheEntry.clear();
 				cacheBundleId.clear();
 				cachePackage.clear();
@@ -286,6 +290,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			if (providerStatusCallback != null) {
 				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 			}
+			clearSearchIndex();
 			cacheEntry.clear();
 			cacheBundleId.clear();
 			cachePackage.clear();
@@ -315,8 +320,12 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 								new File(rootDirectory));
 					}
 
-					// load target platform bundles
-					for (final IPluginModelBase pluginModelBase : models) {
+					// load target platform bundles, the jars are listed in parallel
+					final ContributionIndex contributionIndex = getIndex();
+					final List<List<String>> jarEntries = Arrays.stream(models).parallel()
+							.map(pluginModelBase -> listJar(monitor, contributionIndex, pluginModelBase)).toList();
+					for (int i = 0; i < models.length; i++) {
+						final IPluginModelBase pluginModelBase = models[i];
 						monitor.subTask(pluginModelBase.getPluginBase().getId());
 						monitor.worked(1);
 						if (monitor.isCanceled()) {
@@ -328,65 +337,55 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							// bundle = getBundle(new File())
 							continue;
 						}
-						URL url;
-						try {
-							final String installLocation = pluginModelBase.getInstallLocation();
-							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
+						final String installLocation = pluginModelBase.getInstallLocation();
+						if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
+							final List<String> names = jarEntries.get(i);
+							if (names == null) {
+								continue;
+							}
+							final List<Entry> entries = new ArrayList<>(names.size());
+							for (final String name2 : names) {
+								final Matcher m = patternFile.matcher(name2);
+								if (m.matches()) {
+									final Entry e = new Entry();
+									e.installLocation = installLocation;
+									e.name = m.group(2);
+									e.path = m.group(1);
+									if (e.path != null) {
+										e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+										if (e.pakage.startsWith(".")) { //$NON-NLS-1$
+											e.pakage = e.pakage.substring(1);
 										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
-											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
-											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
+										if (e.pakage.endsWith(".")) { //$NON-NLS-1$
+											e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
 										}
+									} else {
+										e.pakage = ""; //$NON-NLS-1$
 									}
+									cachePackage.add(e.pakage);
+
+									e.bundleSymName = pluginBase.getId();
+									if (e.path == null) {
+										e.path = ""; //$NON-NLS-1$
+									}
+									entries.add(e);
 								}
-							} else {
-								// not a jar file
-								final String bundle = getBundle(new File(installLocation));
-								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
-								}
 							}
-						} catch (final MalformedURLException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						} catch (final IOException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
+							if (!entries.isEmpty()) {
+								cacheLocation.add(installLocation);
+								cacheBundleId.add(pluginBase.getId());
+								// a single copy of the copy-on-write list per bundle
+								cacheEntry.addAll(entries);
+							}
+						} else {
+							// not a jar file
+							final String bundle = getBundle(new File(installLocation));
+							if (bundle != null) {
+								visit(monitor, bundle, installLocation, new File(installLocation));
+							}
 						}
 					}
+					contributionIndex.save();
 					monitor.done();
 					if (monitor.isCanceled()) {
 						if (providerStatusCallback != null) {
@@ -476,6 +475,51 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		}
 	}
 
+	/**
+	 * Returns the search index of the cached entries, building it if entries
+	 * were added since it was built.
+	 */
+	private synchronized ContributionSearchIndex getSearchIndex() {
+		if (searchIndex == null || searchIndex.size() != cacheEntry.size()) {
+			searchIndex = new ContributionSearchIndex(cacheEntry);
+		}
+		return searchIndex;
+	}
+
+	private synchronized void clearSearchIndex() {
+		searchIndex = null;
+	}
+
+	private synchronized ContributionIndex getIndex() {
+		if (index == null) {
+			index = ContributionIndex.load(patternFile.pattern());
+		}
+		return index;
+	}
+
+	/**
+	 * Lists the entries of a target bundle jar that match the file pattern,
+	 * reading the central directory of the jar only if it is not indexed yet.
+	 *
+	 * @return the matching entry names or <code>null</code> if the bundle is
+	 *         not a jar or cannot be read
+	 */
+	private List<String> listJar(IProgressMonitor monitor, ContributionIndex contributionIndex,
+			IPluginModelBase pluginModelBase) {
+		final String installLocation = pluginModelBase.getInstallLocation();
+		if (monitor.isCanceled() || pluginModelBase.getPluginBase() == null || installLocation == null
+				|| !installLocation.endsWith(".jar")) { //$NON-NLS-1$
+			return null;
+		}
+		try {
+			return contributionIndex.getEntryNames(new File(installLocation),
+					name -> !shouldIgnore(name) && patternFile.matcher(name).matches());
+		} catch (final IOException e) {
+			ILog.get().error("Failed to read the entries of " + installLocation, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
 	// @Refactor
 	static public String getBundle(File file) {
 		if (file.isDirectory() == false) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,20 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +40,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -45,6 +56,8 @@ import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	private static final long PROGRESS_INTERVAL = 100;
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
 
@@ -60,7 +73,8 @@ public class PDEState extends MinimalState {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
+		// The resolver state itself is always created from scratch, only the
+		// manifests of unchanged bundles are restored from the TargetManifestCache
 		createNewTargetState(addResolver, target, monitor);
 
 		if (removeDuplicates) {
@@ -86,15 +100,23 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
-			}
+				2 * uris.length);
+		long startRead = System.currentTimeMillis();
+		TargetManifestCache cache = TargetManifestCache.load();
+		// Reading and parsing the manifests is independent for each bundle and
+		// therefore done concurrently. The state is populated afterwards in the
+		// order of the given URIs so that bundle ids remain deterministic.
+		List<TargetManifest> manifests = readManifests(uris, cache, subMonitor);
+		cache.save();
+		long startAdd = System.currentTimeMillis();
+		subMonitor.setWorkRemaining(manifests.size());
+		for (TargetManifest manifest : manifests) {
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				subMonitor.subTask(manifest.file().getName());
+				if (manifest.error() != null) {
+					throw manifest.error();
+				}
+				addBundle(manifest.file(), -1, manifest.manifest());
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
@@ -102,6 +124,71 @@ public class PDEState extends MinimalState {
 			}
 			subMonitor.split(1);
 		}
+		if (PDECore.DEBUG_MODEL) {
+			long end = System.currentTimeMillis();
+			System.out.println("Time to read " + manifests.size() + " target manifests: " + (startAdd - startRead) //$NON-NLS-1$ //$NON-NLS-2$
+					+ " ms (" + cache.getHits() + " from cache, " + cache.getMisses() + " read)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			System.out.println("Time to add target bundles to the state: " + (end - startAdd) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private record TargetManifest(File file, Map<String, String> manifest, CoreException error) {
+	}
+
+	/**
+	 * Reads the manifests of the given bundles in parallel. SubMonitor is not
+	 * thread safe, so the workers only observe a cancellation flag and count
+	 * the bundles they read, while this thread reports that count to the
+	 * monitor until all manifests are read.
+	 */
+	private static List<TargetManifest> readManifests(URI[] uris, TargetManifestCache cache, SubMonitor subMonitor) {
+		AtomicBoolean canceled = new AtomicBoolean();
+		AtomicInteger read = new AtomicInteger();
+		Future<List<TargetManifest>> reading = ForkJoinPool.commonPool()
+				.submit(() -> Arrays.stream(uris).parallel() //
+						.map(uri -> {
+							if (canceled.get()) {
+								throw new OperationCanceledException();
+							}
+							File file = toFile(uri);
+							TargetManifest manifest = file != null ? readManifest(file, cache) : null;
+							read.incrementAndGet();
+							return manifest;
+						}).filter(Objects::nonNull) //
+						.toList());
+		int reported = 0;
+		try {
+			while (true) {
+				try {
+					List<TargetManifest> manifests = reading.get(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS);
+					subMonitor.worked(uris.length - reported);
+					return manifests;
+				} catch (TimeoutException e) {
+					int done = read.get();
+					subMonitor.worked(done - reported);
+					reported = done;
+					subMonitor.checkCanceled();
+				}
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			canceled.set(true);
+		}
+	}
+
+	private static TargetManifest readManifest(File file, TargetManifestCache cache) {
+		try {
+			return new TargetManifest(file, cache.getManifest(file), null);
+		} catch (CoreException e) {
+			return new TargetManifest(file, null, e);
+		}
 	}
 
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.util.CacheFiles;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Persistent cache of the manifest headers of target bundles, stored in a
+ * compact binary file in the PDE state location. Entries are keyed by the
+ * absolute bundle location and are only reused while the size and last
+ * modification time of the bundle (or of the manifest file for directory
+ * bundles) are unchanged. As the auxiliary data of a {@link PDEState} is
+ * computed from the manifest headers it is restored from the cache as well.
+ * <p>
+ * An instance may be queried concurrently.
+ * </p>
+ */
+class TargetManifestCache {
+
+	private static final String CACHE_FILE = ".target_manifests"; //$NON-NLS-1$
+	private static final int MAGIC = 0x50444d46;
+	private static final int FORMAT_VERSION = 1;
+
+	private record Entry(long size, long lastModified, Map<String, String> manifest) {
+	}
+
+	private final File fFile;
+	private final Map<String, Entry> fStoredEntries;
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	private TargetManifestCache(File file, Map<String, Entry> storedEntries) {
+		fFile = file;
+		fStoredEntries = storedEntries;
+	}
+
+	/**
+	 * Loads the cache from the PDE state location. If no cache exists or it
+	 * cannot be read, an empty cache is returned.
+	 *
+	 * @return the loaded cache, never <code>null</code>
+	 */
+	static TargetManifestCache load() {
+		File file = new File(PDECore.getDefault().getStateLocation().toFile(), CACHE_FILE);
+		Map<String, Entry> entries = new HashMap<>();
+		try {
+			CacheFiles.read(file, MAGIC, FORMAT_VERSION, in -> {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String location = CacheFiles.readString(in);
+					long size = in.readLong();
+					long lastModified = in.readLong();
+					int headerCount = in.readInt();
+					// not presized, the count may be corrupt
+					Map<String, String> manifest = new HashMap<>();
+					for (int j = 0; j < headerCount; j++) {
+						manifest.put(CacheFiles.readString(in), CacheFiles.readString(in));
+					}
+					entries.put(location, new Entry(size, lastModified, manifest));
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is simply rebuilt
+			entries.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding unreadable target manifest cache: " + e.getMessage()); //$NON-NLS-1$
+			}
+		}
+		return new TargetManifestCache(file, entries);
+	}
+
+	/**
+	 * Returns the manifest headers of the given bundle, either from the cache
+	 * or by reading the bundle if it changed since it was cached. The returned
+	 * map is a private copy which may be modified by the caller.
+	 *
+	 * @param bundleLocation
+	 *            location of the bundle jar or directory
+	 * @return the manifest headers
+	 * @throws CoreException
+	 *             if the bundle manifest cannot be read, see
+	 *             {@link ManifestUtils#loadManifest(File)}
+	 */
+	Map<String, String> getManifest(File bundleLocation) throws CoreException {
+		String location = bundleLocation.getAbsolutePath();
+		BasicFileAttributes attributes = readAttributes(bundleLocation);
+		if (attributes != null) {
+			long size = attributes.size();
+			long lastModified = attributes.lastModifiedTime().toMillis();
+			Entry entry = fStoredEntries.get(location);
+			if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+				fHits.incrementAndGet();
+				fEntries.put(location, entry);
+				return new HashMap<>(entry.manifest());
+			}
+			fMisses.incrementAndGet();
+			Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+			fEntries.put(location, new Entry(size, lastModified, new HashMap<>(manifest)));
+			return manifest;
+		}
+		fMisses.incrementAndGet();
+		return ManifestUtils.loadManifest(bundleLocation);
+	}
+
+	/**
+	 * Writes the cache back to the PDE state location if any entry was added
+	 * or changed. Stored entries that were not requested are retained as long
+	 * as their bundle still exists, so states created for a subset of the
+	 * target do not evict the rest of the cache.
+	 */
+	void save() {
+		if (fMisses.get() == 0 && fEntries.size() == fStoredEntries.size()) {
+			return;
+		}
+		Map<String, Entry> entries = new HashMap<>(fEntries);
+		fStoredEntries.forEach((location, entry) -> {
+			if (!entries.containsKey(location) && new File(location).exists()) {
+				entries.put(location, entry);
+			}
+		});
+		synchronized (TargetManifestCache.class) {
+			try {
+				CacheFiles.write(fFile, MAGIC, FORMAT_VERSION, out -> {
+					out.writeInt(entries.size());
+					for (Map.Entry<String, Entry> e : entries.entrySet()) {
+						Entry entry = e.getValue();
+						CacheFiles.writeString(out, e.getKey());
+						out.writeLong(entry.size());
+						out.writeLong(entry.lastModified());
+						out.writeInt(entry.manifest().size());
+						for (Map.Entry<String, String> header : entry.manifest().entrySet()) {
+							CacheFiles.writeString(out, header.getKey());
+							CacheFiles.writeString(out, header.getValue());
+						}
+					}
+				});
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+		}
+	}
+
+	int getHits() {
+		return fHits.get();
+	}
+
+	int getMisses() {
+		return fMisses.get();
+	}
+
+	private static BasicFileAttributes readAttributes(File bundleLocation) {
+		// for directory bundles the manifest itself is the relevant file
+		File file = bundleLocation.isDirectory() ? new File(bundleLocation, JarFile.MANIFEST_NAME) : bundleLocation;
+		try {
+			return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -199,6 +199,10 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 		} else if ((IResourceDelta.CONTENT & delta.getFlags()) == 0) {
 			return;
 		}
+		IPath location = schemaFile.getLocation();
+		if (location != null) {
+			PDECore.getDefault().getSchemaRegistry().schemaChanged(location.toFile());
+		}
 		// Get the schema preview file session property
 		Object property = null;
 		try {
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.CacheFiles;
+
+/**
+ * Persistent cache of the SHA-256 digests of target bundle jars, stored in a
+ * compact binary file in the PDE state location. Entries are keyed by the
+ * absolute file location and are only reused while the size and last
+ * modification time of the file are unchanged, so bundles are not hashed
+ * again after a restart.
+ * <p>
+ * The cache is shared by all users of the {@link TargetRepository} and may be
+ * queried concurrently. The digests of a reloaded target can be computed by a
+ * background job, and newly computed digests are written back by a system job
+ * shortly after they were computed.
+ * </p>
+ */
+final class ContentDigestCache {
+
+	private static final String CACHE_FILE = ".target_digests"; //$NON-NLS-1$
+	private static final int MAGIC = 0x50444447;
+	private static final int FORMAT_VERSION = 1;
+	private static final long SAVE_DELAY = 2000;
+	private static final long CANCEL_TIMEOUT = 1000;
+
+	private record Entry(long size, long lastModified, String sha) {
+	}
+
+	private static ContentDigestCache instance;
+
+	private final File fFile;
+	private final Map<String, Entry> fEntries;
+	private final Job fSaveJob;
+	private final Job fDigestJob;
+	private volatile Collection<File> fPendingFiles = List.of();
+
+	private ContentDigestCache(File file, Map<String, Entry> entries) {
+		fFile = file;
+		fEntries = entries;
+		fSaveJob = Job.createSystem("Saving target bundle digests", monitor -> save()); //$NON-NLS-1$
+		fDigestJob = new Job("Computing target bundle digests") { //$NON-NLS-1$
+			private volatile boolean canceled;
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				canceled = false;
+				// the workers only observe the cancellation flag, not the monitor
+				computeMissing(fPendingFiles, () -> canceled);
+				return canceled ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			}
+
+			@Override
+			protected void canceling() {
+				canceled = true;
+			}
+		};
+		fDigestJob.setSystem(true);
+	}
+
+	/**
+	 * Returns the shared cache, loading it from the PDE state location on
+	 * first access. If PDE is not running the digests are only cached in
+	 * memory.
+	 *
+	 * @return the shared cache, never <code>null</code>
+	 */
+	static synchronized ContentDigestCache getDefault() {
+		if (instance == null) {
+			PDECore pde = PDECore.getDefault();
+			File file = pde != null ? new File(pde.getStateLocation().toFile(), CACHE_FILE) : null;
+			instance = new ContentDigestCache(file, load(file));
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the hex encoded SHA-256 digest of the given file, computing it
+	 * on the calling thread if it is not cached or the file changed since it
+	 * was cached.
+	 *
+	 * @param file
+	 *            the file to digest
+	 * @return the digest
+	 * @throws IOException
+	 *             if the file cannot be read
+	 */
+	String getDigest(File file) throws IOException {
+		String location = file.getAbsolutePath();
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		Entry entry = fEntries.get(location);
+		if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+			return entry.sha();
+		}
+		String sha = computeDigest(file);
+		fEntries.put(location, new Entry(size, lastModified, sha));
+		if (fFile != null) {
+			fSaveJob.schedule(SAVE_DELAY);
+		}
+		return sha;
+	}
+
+	/**
+	 * Computes the digests of all given files that are not cached yet in a
+	 * background job, so that later calls to {@link #getDigest(File)} for them
+	 * do not need to read the files. Replaces the files of an earlier request
+	 * that was not completed yet.
+	 *
+	 * @param files
+	 *            the files to digest
+	 */
+	void scheduleMissing(Collection<File> files) {
+		fPendingFiles = List.copyOf(files);
+		fDigestJob.cancel();
+		fDigestJob.schedule();
+	}
+
+	/**
+	 * Computes the digests of all given files that are not cached yet in
+	 * parallel, so that subsequent calls to {@link #getDigest(File)} for them
+	 * do not need to read the files. A background computation is canceled
+	 * first, keeping the digests it already computed, and is waited for only
+	 * briefly, so the caller is not blocked by a large target. Files that
+	 * cannot be read are skipped.
+	 *
+	 * @param files
+	 *            the files to digest
+	 */
+	void computeMissing(Collection<File> files) {
+		fDigestJob.cancel();
+		try {
+			fDigestJob.join(CANCEL_TIMEOUT, null);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		computeMissing(files, () -> false);
+	}
+
+	private void computeMissing(Collection<File> files, BooleanSupplier canceled) {
+		files.parallelStream().filter(File::isFile).forEach(file -> {
+			if (canceled.getAsBoolean()) {
+				return;
+			}
+			try {
+				getDigest(file);
+			} catch (IOException e) {
+				// reported when the digest is requested
+			}
+		});
+	}
+
+	private static String computeDigest(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static Map<String, Entry> load(File file) {
+		Map<String, Entry> entries = new ConcurrentHashMap<>();
+		try {
+			CacheFiles.read(file, MAGIC, FORMAT_VERSION, in -> {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String location = CacheFiles.readString(in);
+					long size = in.readLong();
+					long lastModified = in.readLong();
+					entries.put(location, new Entry(size, lastModified, CacheFiles.readString(in)));
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is simply rebuilt
+			entries.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding unreadable target digest cache: " + e.getMessage()); //$NON-NLS-1$
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Writes the cache to the PDE state location, dropping the entries of
+	 * files that no longer exist.
+	 */
+	private synchronized void save() {
+		Map<String, Entry> entries = new HashMap<>(fEntries);
+		entries.keySet().removeIf(location -> !new File(location).isFile());
+		try {
+			CacheFiles.write(fFile, MAGIC, FORMAT_VERSION, out -> {
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> e : entries.entrySet()) {
+					Entry entry = e.getValue();
+					CacheFiles.writeString(out, e.getKey());
+					out.writeLong(entry.size());
+					out.writeLong(entry.lastModified());
+					CacheFiles.writeString(out, entry.sha());
+				}
+			});
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+/**
+ * Inspects requirement filters without parsing them, so requirements can be
+ * matched against the capabilities with a specific attribute value only.
+ */
+public final class RequirementFilters {
+
+	private RequirementFilters() { // static use only
+	}
+
+	/**
+	 * Returns the value the given filter requires for the given attribute in
+	 * any case, or <code>null</code> if the filter does not require a single
+	 * exact value. Any capability matched by the filter has that value.
+	 * <p>
+	 * Filters with a disjunction or negation are never narrowed down, as an
+	 * equality clause inside them is not mandatory, and neither are filters
+	 * with escaped characters, which may hide the boundaries of a clause.
+	 * Attribute names are compared ignoring case and may be surrounded by
+	 * whitespace, like in LDAP filters.
+	 * </p>
+	 *
+	 * @param filter
+	 *            the filter of a requirement or <code>null</code>
+	 * @param attribute
+	 *            the attribute
+	 * @return the required value or <code>null</code>
+	 */
+	public static String getRequiredValue(String filter, String attribute) {
+		if (filter == null || filter.indexOf('|') >= 0 || filter.indexOf('!') >= 0 || filter.indexOf('\\') >= 0) {
+			return null;
+		}
+		for (int open = filter.indexOf('('); open >= 0; open = filter.indexOf('(', open + 1)) {
+			int start = skipWhitespace(filter, open + 1);
+			if (!filter.regionMatches(true, start, attribute, 0, attribute.length())) {
+				continue;
+			}
+			start = skipWhitespace(filter, start + attribute.length());
+			if (start >= filter.length() || filter.charAt(start) != '=') {
+				continue;
+			}
+			int end = filter.indexOf(')', ++start);
+			if (end < 0) {
+				return null;
+			}
+			String value = filter.substring(start, end);
+			if (value.isEmpty() || value.indexOf('*') >= 0 || !value.strip().equals(value)) {
+				return null;
+			}
+			return value;
+		}
+		return null;
+	}
+
+	private static int skipWhitespace(String filter, int index) {
+		while (index < filter.length() && Character.isWhitespace(filter.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+}
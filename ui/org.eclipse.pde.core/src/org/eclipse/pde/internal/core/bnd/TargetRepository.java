@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,16 +21,20 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -50,6 +54,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.PDECore;
 import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
 import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 import org.osgi.service.repository.ContentNamespace;
@@ -67,6 +72,10 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	private static final TargetRepository instance = new TargetRepository();
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
+	private volatile CapabilityIndex capabilityIndex;
+	// whether content capabilities were queried, which need the bundle digests
+	private volatile boolean contentQueried;
+
 	private TargetRepository() {
 	}
 
@@ -133,6 +142,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		if (!result.alreadyReleased) {
 			state.addBundle(description);
 		}
+		capabilityIndex = null;
 		result.digest = options.digest;
 		return result;
 	}
@@ -140,7 +150,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	@Override
 	public List<String> list(String glob) throws Exception {
 
-		Stream<String> stream = bundles(null).map(BundleDescription::getSymbolicName).distinct();
+		Stream<String> stream = getCapabilityIndex().map(index -> index.symbolicNames.stream())
+				.orElseGet(Stream::empty);
 		if (glob != null) {
 			Instruction pattern = new Instruction(glob);
 			stream = stream.filter(bsn -> pattern.matches(bsn));
@@ -171,12 +182,56 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	public List<Capability> findProvider(Requirement requirement) {
 		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
-				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
-				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
+		Stream<Capability> candidates;
+		if (ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+			// content capabilities require a digest of each bundle and are
+			// therefore not indexed, any digests that are missing are
+			// computed in parallel up front and after a target reload the
+			// digests of the new state are computed in the background
+			contentQueried = true;
+			List<BundleDescription> bundles = bundles(null).filter(bd -> bd.getLocation() != null).toList();
+			ContentDigestCache.getDefault()
+					.computeMissing(bundles.stream().map(bd -> new File(bd.getLocation())).toList());
+			candidates = bundles.stream().map(r -> new BundleDescriptionRepositoryResource(this, r))
+					.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace));
+		} else {
+			candidates = getCapabilityIndex().map(index -> index.getCandidates(requirement).stream())
+					.orElseGet(Stream::empty);
+		}
+		return candidates.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
 				.collect(ResourceUtils.toCapabilities());
 	}
 
+	/**
+	 * Returns the capability index of the current state, building it if the
+	 * state was changed or replaced (e.g. by a target reload) since the index
+	 * was built.
+	 *
+	 * @return an {@link Optional} describing the index or an empty optional if
+	 *         no state is currently available
+	 */
+	private Optional<CapabilityIndex> getCapabilityIndex() {
+		Optional<State> state = getTargetPlatformState();
+		if (state.isEmpty()) {
+			return Optional.empty();
+		}
+		CapabilityIndex index = capabilityIndex;
+		if (index == null || !index.isCurrent(state.get())) {
+			synchronized (this) {
+				index = capabilityIndex;
+				if (index == null || !index.isCurrent(state.get())) {
+					index = new CapabilityIndex(state.get(), this);
+					capabilityIndex = index;
+					if (contentQueried) {
+						ContentDigestCache.getDefault().scheduleMissing(Arrays.stream(state.get().getBundles())
+								.map(BundleDescription::getLocation).filter(Objects::nonNull).map(File::new).toList());
+					}
+				}
+			}
+		}
+		return Optional.of(index);
+	}
+
 	/**
 	 * Aquires a stream of bundles from the current state
 	 *
@@ -340,6 +395,113 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	}
 
+	/**
+	 * Index of the capabilities of the bundles in a state by namespace and by
+	 * the value of the attribute identifying a capability in its namespace
+	 * (e.g. the package name of a package capability or the object class of a
+	 * service capability). Requirements whose filter demands a specific value
+	 * of that attribute are only matched against the capabilities with that
+	 * value, all others against the capabilities of their namespace.
+	 * <p>
+	 * An index is immutable and reflects the state at the time it was built.
+	 * </p>
+	 */
+	private static final class CapabilityIndex {
+
+		private final State state;
+		private final long timeStamp;
+		private final long highestBundleId;
+		/** distinct symbolic names of the bundles, in state order */
+		private final List<String> symbolicNames;
+		private final Map<String, List<Capability>> capabilitiesByNamespace = new HashMap<>();
+		private final Map<String, Map<String, List<Capability>>> capabilitiesByValue = new HashMap<>();
+		/**
+		 * capabilities whose key attribute is not a string, they match
+		 * requirements for any value
+		 */
+		private final Map<String, List<Capability>> unkeyedCapabilities = new HashMap<>();
+
+		CapabilityIndex(State state, Repository repository) {
+			this.state = state;
+			this.timeStamp = state.getTimeStamp();
+			this.highestBundleId = state.getHighestBundleId();
+			BundleDescription[] bundles = state.getBundles();
+			Collection<String> names = new LinkedHashSet<>();
+			for (BundleDescription bundle : bundles) {
+				names.add(bundle.getSymbolicName());
+				BundleDescriptionRepositoryResource resource = new BundleDescriptionRepositoryResource(repository,
+						bundle);
+				resource.bundleRequirements(null).forEach(this::add);
+			}
+			this.symbolicNames = Collections.unmodifiableList(new ArrayList<>(names));
+		}
+
+		private void add(Capability capability) {
+			String namespace = capability.getNamespace();
+			capabilitiesByNamespace.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+			Object value = capability.getAttributes().get(getKeyAttribute(namespace));
+			if (value instanceof String string) {
+				addKeyed(namespace, string, capability);
+			} else if (value instanceof Collection<?> values
+					&& values.stream().allMatch(String.class::isInstance)) {
+				for (Object element : values) {
+					addKeyed(namespace, (String) element, capability);
+				}
+			} else {
+				unkeyedCapabilities.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+			}
+		}
+
+		private void addKeyed(String namespace, String value, Capability capability) {
+			List<Capability> capabilities = capabilitiesByValue.computeIfAbsent(namespace, n -> new HashMap<>())
+					.computeIfAbsent(value, v -> new ArrayList<>());
+			// a list attribute may contain the same value more than once
+			if (capabilities.isEmpty() || capabilities.get(capabilities.size() - 1) != capability) {
+				capabilities.add(capability);
+			}
+		}
+
+		boolean isCurrent(State currentState) {
+			return state == currentState && timeStamp == currentState.getTimeStamp()
+					&& highestBundleId == currentState.getHighestBundleId();
+		}
+
+		/**
+		 * Returns the capabilities that may match the given requirement, the
+		 * requirement still has to be matched against each of them.
+		 */
+		List<Capability> getCandidates(Requirement requirement) {
+			String namespace = requirement.getNamespace();
+			String value = RequirementFilters.getRequiredValue(
+					requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE), getKeyAttribute(namespace));
+			if (value == null) {
+				return capabilitiesByNamespace.getOrDefault(namespace, Collections.emptyList());
+			}
+			List<Capability> keyed = capabilitiesByValue.getOrDefault(namespace, Collections.emptyMap())
+					.getOrDefault(value, Collections.emptyList());
+			List<Capability> unkeyed = unkeyedCapabilities.getOrDefault(namespace, Collections.emptyList());
+			if (unkeyed.isEmpty()) {
+				return keyed;
+			}
+			List<Capability> candidates = new ArrayList<>(keyed.size() + unkeyed.size());
+			candidates.addAll(keyed);
+			candidates.addAll(unkeyed);
+			return candidates;
+		}
+
+		/**
+		 * @return the attribute identifying a capability in the given
+		 *         namespace, by convention an attribute with the name of the
+		 *         namespace (e.g. <code>osgi.wiring.package</code>)
+		 */
+		private static String getKeyAttribute(String namespace) {
+			if ("osgi.service".equals(namespace)) { //$NON-NLS-1$
+				return "objectClass"; //$NON-NLS-1$
+			}
+			return namespace;
+		}
+	}
+
 	private static final class ContentCapabilityCache {
 
 		private final File file;
@@ -358,20 +520,15 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				CapReqBuilder content = new CapReqBuilder(resource, ContentNamespace.CONTENT_NAMESPACE);
 				String sha;
 				try {
-					MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
 					if (file.isDirectory()) {
 						// directories can not really have a SHA-256 ...
+						MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
 						digest.update(file.getAbsolutePath().getBytes());
+						sha = HexFormat.of().formatHex(digest.digest());
 					} else {
-						try (DigestInputStream stream = new DigestInputStream(new FileInputStream(file), digest)) {
-							stream.readAllBytes();
-						} catch (IOException e) {
-							return Stream.empty();
-						}
+						sha = ContentDigestCache.getDefault().getDigest(file);
 					}
-					byte[] bytes = digest.digest();
-					sha = HexFormat.of().formatHex(bytes);
-				} catch (NoSuchAlgorithmException e) {
+				} catch (IOException | NoSuchAlgorithmException e) {
 					return Stream.empty();
 				}
 				content.addAttribute(ContentNamespace.CONTENT_NAMESPACE, sha);
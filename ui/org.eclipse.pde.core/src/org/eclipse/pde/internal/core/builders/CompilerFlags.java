@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.runtime.Platform;
@@ -30,6 +33,9 @@ import org.osgi.service.prefs.BackingStoreException;
  */
 public class CompilerFlags {
 
+	// the flags of the projects that are being validated
+	private static final Map<IProject, Map<String, String>> fgCachedFlags = new ConcurrentHashMap<>();
+
 	/**
 	 * Compiler flag options as integers
 	 */
@@ -124,11 +130,32 @@ public class CompilerFlags {
 	 * @return preference value or an empty string, never <code>null</code>
 	 */
 	public static String getString(IProject project, String flagId) {
+		Map<String, String> cache = project == null ? null : fgCachedFlags.get(project);
+		if (cache != null) {
+			return cache.computeIfAbsent(flagId, id -> readString(project, id));
+		}
+		return readString(project, flagId);
+	}
+
+	private static String readString(IProject project, String flagId) {
 		IPreferencesService service = Platform.getPreferencesService();
 		IScopeContext[] contexts = project == null ? null : new IScopeContext[] {new ProjectScope(project)};
 		return service.getString(PDE.PLUGIN_ID, flagId, "", project == null ? null : contexts); //$NON-NLS-1$
 	}
 
+	/**
+	 * Caches the flags of the given project until {@link #stopCaching(IProject)}
+	 * is called, so that the reporters validating the project do not look
+	 * them up in the preferences again and again.
+	 */
+	static void startCaching(IProject project) {
+		fgCachedFlags.put(project, new ConcurrentHashMap<>());
+	}
+
+	static void stopCaching(IProject project) {
+		fgCachedFlags.remove(project);
+	}
+
 	/**
 	 * Saves INSTANCE preferences
 	 */
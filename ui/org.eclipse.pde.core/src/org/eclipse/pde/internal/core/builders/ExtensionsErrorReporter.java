@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,9 +16,12 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
 
 import org.eclipse.core.resources.IFile;
@@ -79,6 +82,15 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
 
+	/**
+	 * A <code>java</code> attribute whose type is looked up once all of them
+	 * are collected, see {@link #validateJavaAttributes()}.
+	 */
+	private record JavaAttribute(Element element, Attr attr, String typeName) {
+	}
+
+	private final List<JavaAttribute> fJavaAttributes = new ArrayList<>();
+
 	public ExtensionsErrorReporter(IFile file) {
 		super(file);
 		fModel = PluginRegistry.findModel(file.getProject());
@@ -141,6 +153,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					break;
 				}
 			}
+			validateJavaAttributes();
 
 			if (fModel != null) {
 			IExtensions extensions = fModel.getExtensions();
@@ -589,6 +602,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					return true;
 				}
 			} else {
+				// answered from the shared jar entry index, the jar is read once
 				if (CoreUtility.jarContainsResource(new File(bundleJar), paths.get(i), false)) {
 					return true;
 				}
@@ -600,7 +614,6 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 
 	protected void validateJavaAttribute(Element element, Attr attr) {
 		String value = attr.getValue();
-		IJavaProject javaProject = JavaCore.create(fFile.getProject());
 
 		// be careful: people have the option to use the format:
 		// fullqualifiedName:staticMethod
@@ -608,33 +621,57 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		if (index != -1) {
 			value = value.substring(0, index);
 		}
+		fJavaAttributes.add(new JavaAttribute(element, attr, value));
+	}
 
+	/**
+	 * Reports the collected <code>java</code> attributes whose type is not on
+	 * the classpath or is discouraged. The distinct types are looked up in one
+	 * batch instead of one by one.
+	 */
+	protected void validateJavaAttributes() {
+		if (fJavaAttributes.isEmpty()) {
+			return;
+		}
+		IJavaProject javaProject = JavaCore.create(fFile.getProject());
+		int classSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_CLASS);
+		int discouragedSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DISCOURAGED_CLASS);
+		if (!javaProject.isOpen()
+				|| (classSeverity == CompilerFlags.IGNORE && discouragedSeverity == CompilerFlags.IGNORE)) {
+			fJavaAttributes.clear();
+			return;
+		}
+
+		Set<String> typeNames = new HashSet<>();
+		for (JavaAttribute javaAttribute : fJavaAttributes) {
+			typeNames.add(javaAttribute.typeName());
+		}
 		// assume we're on the classpath already
-		boolean onClasspath = true;
-		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_CLASS);
-		if (severity != CompilerFlags.IGNORE && javaProject.isOpen()) {
-			onClasspath = PDEJavaHelper.isOnClasspath(value, javaProject);
-			if (!onClasspath) {
-				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_class, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.P_UNKNOWN_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_FATAL);
+		Set<String> onClasspath = typeNames;
+		if (classSeverity != CompilerFlags.IGNORE) {
+			onClasspath = PDEJavaHelper.findTypesOnClasspath(typeNames, javaProject);
+		}
+		BundleDescription desc = fModel != null ? fModel.getBundleDescription() : null;
+		Map<String, Boolean> discouraged = new HashMap<>();
+
+		for (JavaAttribute javaAttribute : fJavaAttributes) {
+			Element element = javaAttribute.element();
+			Attr attr = javaAttribute.attr();
+			String value = javaAttribute.typeName();
+			boolean isOnClasspath = onClasspath.contains(value);
+			if (!isOnClasspath) {
+				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_class, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), classSeverity, PDEMarkerFactory.P_UNKNOWN_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_FATAL);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNKNOWN_CLASS);
 			}
-		}
 
-		severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DISCOURAGED_CLASS);
-		if (severity != CompilerFlags.IGNORE && javaProject.isOpen()) {
-			if (fModel == null) {
-				return;
-			}
-			BundleDescription desc = fModel.getBundleDescription();
-			if (desc == null) {
-				return;
-			}
 			// only check if we're discouraged if there is something on the classpath
-			if (onClasspath && PDEJavaHelper.isDiscouraged(value, javaProject, desc)) {
-				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_discouragedClass, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.M_DISCOURAGED_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_OTHER);
+			if (discouragedSeverity != CompilerFlags.IGNORE && desc != null && isOnClasspath
+					&& discouraged.computeIfAbsent(value, type -> PDEJavaHelper.isDiscouraged(type, javaProject, desc))) {
+				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_discouragedClass, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), discouragedSeverity, PDEMarkerFactory.M_DISCOURAGED_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_OTHER);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_DISCOURAGED_CLASS);
 			}
 		}
+		fJavaAttributes.clear();
 	}
 
 	protected void validateRestrictionAttribute(Element element, Attr attr, ISchemaRestriction restriction) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -246,28 +246,36 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 	private void validateProject(int type, IProgressMonitor monitor) {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.ManifestConsistencyChecker_builderTaskName, getWorkAmount(type));
-		if ((type & STRUCTURE) != 0) {
-			validateProjectStructure(type, subMonitor.split(1));
-		}
-
-		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
-			IProject project = getProject();
-			IFile file = PDEProject.getPluginXml(project);
-			if (!file.exists()) {
-				file = PDEProject.getFragmentXml(project);
+		IProject project = getProject();
+		// the reporters of a project share its compiler flags. They run one
+		// after the other, as they lazily create and load shared workspace
+		// models without synchronization
+		CompilerFlags.startCaching(project);
+		try {
+			if ((type & STRUCTURE) != 0) {
+				validateProjectStructure(type, subMonitor.split(1));
 			}
 
-			if (file.exists()) {
-				validateFiles(file, type, monitor);
-			} else if ((type & MANIFEST) != 0) {
-				IFile manifestFile = PDEProject.getManifest(project);
-				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+			if ((type & (MANIFEST | EXTENSIONS)) != 0) {
+				IFile file = PDEProject.getPluginXml(project);
+				if (!file.exists()) {
+					file = PDEProject.getFragmentXml(project);
+				}
+
+				if (file.exists()) {
+					validateFiles(file, type, monitor);
+				} else if ((type & MANIFEST) != 0) {
+					IFile manifestFile = PDEProject.getManifest(project);
+					if (manifestFile.exists()) {
+						validateManifestFile(manifestFile, subMonitor.split(1));
+					}
 				}
 			}
-		}
-		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			if ((type & BUILD) != 0) {
+				validateBuildProperties(subMonitor.split(1));
+			}
+		} finally {
+			CompilerFlags.stopCaching(project);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -165,6 +165,7 @@ public class FeatureExportOperation extends Job {
 				doExport(model, null, subMonitor.split(20));
 
 			} else {
+				long start = System.currentTimeMillis();
 				for (Object item : fInfo.items) {
 					if (monitor.isCanceled()) {
 						return Status.CANCEL_STATUS;
@@ -177,6 +178,7 @@ public class FeatureExportOperation extends Job {
 						cleanup(subMonitor.split(3));
 					}
 				}
+				traceTime("Export of " + fInfo.items.length + " features", start); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return status;
 		} catch (InvocationTargetException | CoreException e) {
@@ -304,22 +306,28 @@ public class FeatureExportOperation extends Job {
 		int subTaskLength = 6 + (configs.length * 4) + (publishingP2Metadata() ? 2 : 0);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.FeatureExportJob_taskName, subTaskLength);
 
+		long exportStart = System.currentTimeMillis();
+		long start = exportStart;
 		HashMap<String, String> properties = createAntBuildProperties(configs);
 		BuildScriptGenerator generator = new BuildScriptGenerator();
 		setupGenerator(generator, featureID, version, configs, featureLocation);
 		generator.generate();
+		start = traceTime("Generating build scripts", start); //$NON-NLS-1$
 		subMonitor.split(1);
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningBuildScript);
 		// compile the classes
 		runScript(featureLocation + IPath.SEPARATOR + "compile." + featureID + ".xml", new String[] {"main"}, properties, subMonitor.split(1)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		start = traceTime("Compiling", start); //$NON-NLS-1$
 		// grab the source if needed
 		if (fInfo.exportSource && !fInfo.exportSourceBundle) {
 			runScript(getBuildScriptName(featureLocation), new String[] {"build.sources"}, properties, subMonitor.split(1)); //$NON-NLS-1$
+			start = traceTime("Gathering sources", start); //$NON-NLS-1$
 		}
 
 		if (publishingP2Metadata()) {
 			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_publishingMetadata);
 			runScript(getAssembleP2ScriptName(featureID, featureLocation), new String[] {"main"}, properties, subMonitor.split(2)); //$NON-NLS-1$
+			start = traceTime("Publishing metadata", start); //$NON-NLS-1$
 
 			//metadata implies groups if we aren't exporting products
 			if (groupedConfigurations()) {
@@ -333,15 +341,35 @@ public class FeatureExportOperation extends Job {
 			setArchiveLocation(properties, config[0], config[1], config[2]);
 			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
 					properties, subMonitor.split(2));
+			start = traceTime("Assembling " + String.join(".", config), start); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
 		for (String[] config : configs) {
 			setArchiveLocation(properties, config[0], config[1], config[2]);
 			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			start = traceTime("Packaging " + String.join(".", config), start); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
 		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
+		traceTime("Gathering logs", start); //$NON-NLS-1$
+		traceTime("Export of " + featureID, exportStart); //$NON-NLS-1$
+	}
+
+	/**
+	 * Prints the time taken by a phase of the export if export tracing is
+	 * enabled.
+	 *
+	 * @param phase the phase that ended
+	 * @param start the time the phase started in milliseconds
+	 * @return the current time, i.e. the start of the next phase
+	 */
+	protected static long traceTime(String phase, long start) {
+		long now = System.currentTimeMillis();
+		if (PDECore.DEBUG_EXPORT) {
+			System.out.println(phase + ": " + (now - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return now;
 	}
 
 	protected boolean groupedConfigurations() {
@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+import org.eclipse.pde.internal.core.util.CacheFiles;
+
+/**
+ * Writes and reads the compiled form of an abbreviated {@link Schema}: its
+ * elements, attributes, compositors and restrictions, but none of the
+ * documentation, which abbreviated schemas load lazily from the XML anyway.
+ * Element references are stored by name and resolved after reading, like
+ * after parsing.
+ */
+final class CompiledSchema {
+
+	private static final byte NO_TYPE = 0;
+	private static final byte SIMPLE_TYPE = 1;
+	private static final byte COMPLEX_TYPE = 2;
+
+	private static final byte COMPOSITOR = 1;
+	private static final byte REFERENCE = 2;
+
+	private CompiledSchema() {
+	}
+
+	static void write(Schema schema, DataOutputStream out) throws IOException {
+		CacheFiles.writeString(out, schema.getPluginId());
+		CacheFiles.writeString(out, schema.getPointId());
+		CacheFiles.writeString(out, schema.getName());
+		out.writeBoolean(schema.isValid());
+		ISchemaInclude[] includes = schema.getIncludes();
+		out.writeInt(includes.length);
+		for (ISchemaInclude include : includes) {
+			CacheFiles.writeString(out, include.getLocation());
+		}
+		ISchemaElement[] elements = schema.getElements();
+		out.writeInt(elements.length);
+		for (ISchemaElement element : elements) {
+			writeElement(out, element);
+		}
+	}
+
+	private static void writeElement(DataOutputStream out, ISchemaElement element) throws IOException {
+		boolean root = element instanceof ISchemaRootElement;
+		out.writeBoolean(root);
+		CacheFiles.writeString(out, element.getName());
+		out.writeInt(element.getMinOccurs());
+		out.writeInt(element.getMaxOccurs());
+		CacheFiles.writeString(out, element.getLabelProperty());
+		CacheFiles.writeString(out, element.getIconProperty());
+		out.writeBoolean(element.hasTranslatableContent());
+		out.writeBoolean(element.isDeprecated());
+		if (root) {
+			ISchemaRootElement rootElement = (ISchemaRootElement) element;
+			CacheFiles.writeString(out, rootElement.getDeprecatedSuggestion());
+			out.writeBoolean(rootElement.isInternal());
+		}
+		ISchemaType type = element.getType();
+		if (type instanceof ISchemaComplexType complexType) {
+			out.writeByte(COMPLEX_TYPE);
+			CacheFiles.writeString(out, complexType.getName());
+			out.writeBoolean(complexType.isMixed());
+			ISchemaAttribute[] attributes = complexType.getAttributes();
+			out.writeInt(attributes.length);
+			for (ISchemaAttribute attribute : attributes) {
+				writeAttribute(out, attribute);
+			}
+			ISchemaCompositor compositor = complexType.getCompositor();
+			out.writeBoolean(compositor != null);
+			if (compositor != null) {
+				writeCompositor(out, compositor);
+			}
+		} else if (type instanceof ISchemaSimpleType simpleType) {
+			out.writeByte(SIMPLE_TYPE);
+			writeSimpleType(out, simpleType);
+		} else {
+			out.writeByte(NO_TYPE);
+		}
+	}
+
+	private static void writeAttribute(DataOutputStream out, ISchemaAttribute attribute) throws IOException {
+		CacheFiles.writeString(out, attribute.getName());
+		out.writeInt(attribute.getKind());
+		out.writeInt(attribute.getUse());
+		Object value = attribute.getValue();
+		CacheFiles.writeString(out, value != null ? value.toString() : null);
+		CacheFiles.writeString(out, attribute.getBasedOn());
+		out.writeBoolean(attribute.isTranslatable());
+		out.writeBoolean(attribute.isDeprecated());
+		ISchemaSimpleType type = attribute.getType();
+		out.writeBoolean(type != null);
+		if (type != null) {
+			writeSimpleType(out, type);
+		}
+	}
+
+	private static void writeSimpleType(DataOutputStream out, ISchemaSimpleType type) throws IOException {
+		CacheFiles.writeString(out, type.getName());
+		ISchemaRestriction restriction = type.getRestriction();
+		Object[] children = restriction != null ? restriction.getChildren() : null;
+		out.writeInt(children != null ? children.length : -1);
+		if (children != null) {
+			for (Object child : children) {
+				CacheFiles.writeString(out, ((ISchemaEnumeration) child).getName());
+			}
+		}
+	}
+
+	private static void writeCompositor(DataOutputStream out, ISchemaCompositor compositor) throws IOException {
+		out.writeInt(compositor.getKind());
+		out.writeInt(compositor.getMinOccurs());
+		out.writeInt(compositor.getMaxOccurs());
+		ISchemaObject[] children = compositor.getChildren();
+		out.writeInt(children.length);
+		for (ISchemaObject child : children) {
+			if (child instanceof ISchemaCompositor childCompositor) {
+				out.writeByte(COMPOSITOR);
+				writeCompositor(out, childCompositor);
+			} else {
+				SchemaElementReference reference = (SchemaElementReference) child;
+				out.writeByte(REFERENCE);
+				CacheFiles.writeString(out, reference.getReferenceName());
+				out.writeInt(reference.getMinOccurs());
+				out.writeInt(reference.getMaxOccurs());
+			}
+		}
+	}
+
+	/**
+	 * Reads a compiled schema into the given empty schema.
+	 *
+	 * @param references
+	 *            receives the element references that need to be resolved
+	 */
+	static void read(Schema schema, DataInputStream in, List<SchemaElementReference> references) throws IOException {
+		schema.setPluginId(CacheFiles.readString(in));
+		schema.setPointId(CacheFiles.readString(in));
+		schema.setName(CacheFiles.readString(in));
+		schema.setValid(in.readBoolean());
+		int includes = in.readInt();
+		for (int i = 0; i < includes; i++) {
+			schema.processInclude(CacheFiles.readString(in));
+		}
+		int elements = in.readInt();
+		for (int i = 0; i < elements; i++) {
+			schema.addElement(readElement(schema, in, references));
+		}
+	}
+
+	private static ISchemaElement readElement(Schema schema, DataInputStream in,
+			List<SchemaElementReference> references) throws IOException {
+		boolean root = in.readBoolean();
+		String name = CacheFiles.readString(in);
+		SchemaElement element = root ? new SchemaRootElement(schema, name) : new SchemaElement(schema, name);
+		element.setMinOccurs(in.readInt());
+		element.setMaxOccurs(in.readInt());
+		element.setLabelProperty(CacheFiles.readString(in));
+		element.setIconProperty(CacheFiles.readString(in));
+		element.setTranslatableProperty(in.readBoolean());
+		element.setDeprecatedProperty(in.readBoolean());
+		if (root) {
+			SchemaRootElement rootElement = (SchemaRootElement) element;
+			rootElement.setDeprecatedSuggestion(CacheFiles.readString(in));
+			rootElement.setInternal(in.readBoolean());
+		}
+		switch (in.readByte()) {
+			case COMPLEX_TYPE:
+				SchemaComplexType complexType = new SchemaComplexType(schema, CacheFiles.readString(in));
+				complexType.setMixed(in.readBoolean());
+				int attributes = in.readInt();
+				for (int i = 0; i < attributes; i++) {
+					complexType.addAttribute(readAttribute(schema, element, in));
+				}
+				if (in.readBoolean()) {
+					complexType.setCompositor(readCompositor(element, in, references));
+				}
+				element.setType(complexType);
+				break;
+			case SIMPLE_TYPE:
+				element.setType(readSimpleType(schema, in));
+				break;
+			case NO_TYPE:
+				break;
+			default:
+				throw new IOException("Unknown schema type"); //$NON-NLS-1$
+		}
+		return element;
+	}
+
+	private static ISchemaAttribute readAttribute(Schema schema, SchemaElement element, DataInputStream in)
+			throws IOException {
+		SchemaAttribute attribute = new SchemaAttribute(element, CacheFiles.readString(in));
+		attribute.setKind(in.readInt());
+		attribute.setUse(in.readInt());
+		String value = CacheFiles.readString(in);
+		if (value != null) {
+			attribute.setValue(value);
+		}
+		attribute.setBasedOn(CacheFiles.readString(in));
+		attribute.setTranslatableProperty(in.readBoolean());
+		attribute.setDeprecatedProperty(in.readBoolean());
+		if (in.readBoolean()) {
+			attribute.setType(readSimpleType(schema, in));
+		}
+		return attribute;
+	}
+
+	private static SchemaSimpleType readSimpleType(Schema schema, DataInputStream in) throws IOException {
+		SchemaSimpleType type = new SchemaSimpleType(schema, CacheFiles.readString(in));
+		int choices = in.readInt();
+		if (choices >= 0) {
+			Vector<ISchemaEnumeration> items = new Vector<>(choices);
+			for (int i = 0; i < choices; i++) {
+				items.add(new SchemaEnumeration(schema, CacheFiles.readString(in)));
+			}
+			ChoiceRestriction restriction = new ChoiceRestriction(schema);
+			restriction.setChildren(items);
+			type.setRestriction(restriction);
+		}
+		return type;
+	}
+
+	private static ISchemaCompositor readCompositor(ISchemaObject parent, DataInputStream in,
+			List<SchemaElementReference> references) throws IOException {
+		SchemaCompositor compositor = new SchemaCompositor(parent, in.readInt());
+		compositor.setMinOccurs(in.readInt());
+		compositor.setMaxOccurs(in.readInt());
+		int children = in.readInt();
+		for (int i = 0; i < children; i++) {
+			switch (in.readByte()) {
+				case COMPOSITOR:
+					compositor.addChild(readCompositor(compositor, in, references));
+					break;
+				case REFERENCE:
+					SchemaElementReference reference = new SchemaElementReference(compositor, CacheFiles.readString(in));
+					reference.setMinOccurs(in.readInt());
+					reference.setMaxOccurs(in.readInt());
+					compositor.addChild(reference);
+					references.add(reference);
+					break;
+				default:
+					throw new IOException("Unknown compositor child"); //$NON-NLS-1$
+			}
+		}
+		return compositor;
+	}
+}
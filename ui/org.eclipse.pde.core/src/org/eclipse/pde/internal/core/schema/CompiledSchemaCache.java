@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.CacheFiles;
+
+/**
+ * Persistent cache of the {@link CompiledSchema compiled form} of abbreviated
+ * extension point schemas, stored in a compact binary file in the PDE state
+ * location. Entries are keyed by the schema URL and are only reused while the
+ * last modification time of the schema file, or of the jar containing it, is
+ * unchanged, so schemas are not parsed again after a restart.
+ * <p>
+ * The cache may be queried concurrently. Newly compiled schemas are written
+ * back by a system job shortly after they were compiled.
+ * </p>
+ */
+final class CompiledSchemaCache {
+
+	private static final String CACHE_FILE = ".compiled_schemas"; //$NON-NLS-1$
+	private static final int MAGIC = 0x50444353;
+	private static final int FORMAT_VERSION = 1;
+	private static final long SAVE_DELAY = 2000;
+
+	private record Entry(long lastModified, byte[] data) {
+	}
+
+	private static CompiledSchemaCache instance;
+
+	private final File fFile;
+	private final Map<String, Entry> fEntries;
+	private final Job fSaveJob;
+
+	private CompiledSchemaCache(File file, Map<String, Entry> entries) {
+		fFile = file;
+		fEntries = entries;
+		fSaveJob = Job.createSystem("Saving compiled extension point schemas", monitor -> save()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the shared cache, loading it from the PDE state location on
+	 * first access. If PDE is not running the schemas are only cached in
+	 * memory.
+	 *
+	 * @return the shared cache, never <code>null</code>
+	 */
+	static synchronized CompiledSchemaCache getDefault() {
+		if (instance == null) {
+			PDECore pde = PDECore.getDefault();
+			File file = pde != null ? new File(pde.getStateLocation().toFile(), CACHE_FILE) : null;
+			instance = new CompiledSchemaCache(file, load(file));
+		}
+		return instance;
+	}
+
+	/**
+	 * Writes pending changes of the shared cache, if it was used.
+	 */
+	static synchronized void shutdown() {
+		if (instance != null && instance.fFile != null && instance.fSaveJob.getState() == Job.SLEEPING
+				&& instance.fSaveJob.cancel()) {
+			instance.save();
+		}
+	}
+
+	/**
+	 * Loads an abbreviated schema from its compiled form if it is cached and
+	 * up to date, otherwise parses it and caches its compiled form.
+	 *
+	 * @param schemaFactory
+	 *            creates the empty schema to load
+	 * @return the loaded schema
+	 */
+	Schema load(Supplier<Schema> schemaFactory) {
+		Schema schema = schemaFactory.get();
+		URL url = schema.getURL();
+		long lastModified = getLastModified(url);
+		if (lastModified == 0) {
+			schema.load();
+			return schema;
+		}
+		String key = url.toExternalForm();
+		Entry entry = fEntries.get(key);
+		if (entry != null && entry.lastModified() == lastModified) {
+			try {
+				schema.load(new DataInputStream(new ByteArrayInputStream(entry.data())));
+				return schema;
+			} catch (IOException | RuntimeException e) {
+				// parse the schema again into a fresh model
+				fEntries.remove(key, entry);
+				schema = schemaFactory.get();
+			}
+		}
+		schema.load();
+		if (schema.isLoaded()) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				CompiledSchema.write(schema, out);
+				fEntries.put(key, new Entry(lastModified, bytes.toByteArray()));
+				if (fFile != null) {
+					fSaveJob.schedule(SAVE_DELAY);
+				}
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+		}
+		return schema;
+	}
+
+	/**
+	 * Returns the last modification time of the schema file or of the jar
+	 * containing it.
+	 *
+	 * @return the time or <code>0</code> if it is unknown
+	 */
+	static long getLastModified(URL url) {
+		if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+			String path = url.getPath();
+			int separator = path.indexOf("!/"); //$NON-NLS-1$
+			if (separator < 0) {
+				return 0;
+			}
+			try {
+				url = new URL(path.substring(0, separator));
+			} catch (MalformedURLException e) {
+				return 0;
+			}
+		}
+		if (!"file".equals(url.getProtocol())) { //$NON-NLS-1$
+			return 0;
+		}
+		return new File(url.getPath()).lastModified();
+	}
+
+	private static Map<String, Entry> load(File file) {
+		Map<String, Entry> entries = new ConcurrentHashMap<>();
+		try {
+			CacheFiles.read(file, MAGIC, FORMAT_VERSION, in -> {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String url = CacheFiles.readString(in);
+					long lastModified = in.readLong();
+					entries.put(url, new Entry(lastModified, CacheFiles.readBytes(in, in.readInt())));
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is simply rebuilt
+			entries.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding unreadable compiled schema cache: " + e.getMessage()); //$NON-NLS-1$
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Writes the cache to the PDE state location, dropping the entries of
+	 * schemas that changed or no longer exist.
+	 */
+	private synchronized void save() {
+		Map<String, Entry> entries = new HashMap<>(fEntries);
+		entries.entrySet().removeIf(e -> {
+			try {
+				return getLastModified(new URL(e.getKey())) != e.getValue().lastModified();
+			} catch (MalformedURLException ex) {
+				return true;
+			}
+		});
+		try {
+			CacheFiles.write(fFile, MAGIC, FORMAT_VERSION, out -> {
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> e : entries.entrySet()) {
+					Entry entry = e.getValue();
+					CacheFiles.writeString(out, e.getKey());
+					out.writeLong(entry.lastModified());
+					out.writeInt(entry.data().length);
+					out.write(entry.data());
+				}
+			});
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2013 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -158,10 +158,14 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
-			fSchema = new Schema(this, fSchemaURL, abbreviated);
-			fSchema.load();
+			if (abbreviated) {
+				fSchema = CompiledSchemaCache.getDefault().load(() -> new Schema(this, fSchemaURL, abbreviated));
+			} else {
+				fSchema = new Schema(this, fSchemaURL, abbreviated);
+				fSchema.load();
+			}
 		}
 		return fSchema;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.schema;
 
+import java.io.DataInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -445,6 +446,23 @@ public class Schema extends PlatformObject implements ISchema {
 		}
 	}
 
+	/**
+	 * Loads the schema from its {@link CompiledSchema compiled form} instead of
+	 * parsing the XML.
+	 *
+	 * @see CompiledSchemaCache
+	 */
+	void load(DataInputStream in) throws IOException {
+		fReferences = new Vector<>();
+		CompiledSchema.read(this, in, fReferences);
+		addOmittedDocumentSections();
+		fLoaded = true;
+		if (!fReferences.isEmpty()) {
+			resolveReferences(fReferences);
+		}
+		fReferences = null;
+	}
+
 	public void load(InputStream stream) {
 		try {
 			XMLDefaultHandler handler = new XMLDefaultHandler(fAbbreviated);
@@ -862,7 +880,10 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	private void processInclude(Node node) {
-		String location = getAttribute(node, "schemaLocation"); //$NON-NLS-1$
+		processInclude(getAttribute(node, "schemaLocation")); //$NON-NLS-1$
+	}
+
+	void processInclude(String location) {
 		SchemaInclude include = new SchemaInclude(this, location, fAbbreviated, schemaProvider);
 		if (fIncludes == null) {
 			fIncludes = new Vector<>();
@@ -1003,6 +1024,10 @@ public class Schema extends PlatformObject implements ISchema {
 		fireModelObjectChanged(this, P_POINT, oldValue, newId);
 	}
 
+	void setValid(boolean valid) {
+		fValid = valid;
+	}
+
 	public void setNotificationEnabled(boolean newNotificationEnabled) {
 		fNotificationEnabled = newNotificationEnabled;
 	}
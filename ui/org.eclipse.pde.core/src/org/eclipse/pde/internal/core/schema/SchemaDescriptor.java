@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2013 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -78,19 +78,29 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
-			if (fEditable) {
-				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
+			if (abbreviated && !fEditable) {
+				fSchema = CompiledSchemaCache.getDefault().load(() -> createSchema(abbreviated));
 			} else {
-				fSchema = new Schema(this, fSchemaURL, abbreviated);
+				fSchema = createSchema(abbreviated);
+				fSchema.load();
 			}
-			fSchema.setSchemaProvider(schemaProvider);
-			fSchema.load();
 		}
 		return fSchema;
 	}
 
+	private Schema createSchema(boolean abbreviated) {
+		Schema schema;
+		if (fEditable) {
+			schema = new EditableSchema(this, fSchemaURL, abbreviated);
+		} else {
+			schema = new Schema(this, fSchemaURL, abbreviated);
+		}
+		schema.setSchemaProvider(schemaProvider);
+		return schema;
+	}
+
 	@Override
 	public URL getSchemaURL() {
 		return fSchemaURL;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -35,15 +37,29 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Time in milliseconds during which a schema file is not checked for
+	 * modifications again, so validating many extensions of the same point
+	 * does not stat the schema file for every extension. Changes of workspace
+	 * schemas are reported through {@link #schemaChanged(File)} instead.
+	 */
+	private static final long CHECK_INTERVAL = 1000;
+
+	/**
+	 * A registered descriptor along with the time its schema file was last
+	 * found to be unchanged.
+	 */
+	private record Registration(ISchemaDescriptor descriptor, long checked) {
+	}
+
+	// schemas are requested concurrently, e.g. by parallel validation
+	private final Map<String, Registration> fRegistry = new ConcurrentHashMap<>();
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,13 +68,8 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
-		return desc.getSchema(true);
+		return getRegistration(extPointID, url, () -> new SchemaDescriptor(extPointID, url)).descriptor()
+				.getSchema(true);
 	}
 
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
@@ -68,26 +79,56 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
-			return desc.getSchema(true);
+			return getRegistration(url.toString(), url, () -> new IncludedSchemaDescriptor(url)).descriptor()
+					.getSchema(true);
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
+	private Registration getRegistration(String key, URL url, Supplier<ISchemaDescriptor> descriptorFactory) {
+		// lock-free for the common case of a recently checked registration
+		Registration registration = fRegistry.get(key);
+		if (registration != null && isRecentlyChecked(registration, url)) {
+			return registration;
 		}
-		return desc;
+		// stat the schema file outside of the map lock, concurrent checks of
+		// the same file are harmless
+		long now = System.currentTimeMillis();
+		Registration checked = registration != null && isSameURL(registration, url)
+				&& !hasSchemaChanged(registration.descriptor(), url)
+						? new Registration(registration.descriptor(), now)
+						: null;
+		return fRegistry.compute(key, (k, existing) -> {
+			if (existing != null && existing != registration && isRecentlyChecked(existing, url)) {
+				// registered by another thread in the meantime
+				return existing;
+			}
+			if (existing == registration && checked != null) {
+				return checked;
+			}
+			return new Registration(descriptorFactory.get(), now);
+		});
+	}
+
+	private static boolean isSameURL(Registration registration, URL url) {
+		return registration.descriptor().getSchemaURL().toExternalForm().equals(url.toExternalForm());
+	}
+
+	private static boolean isRecentlyChecked(Registration registration, URL url) {
+		return System.currentTimeMillis() - registration.checked() < CHECK_INTERVAL && isSameURL(registration, url);
+	}
+
+	/**
+	 * Discards the registered descriptors of the given schema file, so the
+	 * schema is loaded again on the next request.
+	 *
+	 * @param file
+	 *            the schema file whose content changed
+	 */
+	public void schemaChanged(File file) {
+		String url = file.toURI().toString();
+		fRegistry.values().removeIf(registration -> registration.descriptor().getSchemaURL().toString().equals(url));
 	}
 
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -175,8 +216,9 @@ public class SchemaRegistry {
 	}
 
 	private boolean hasSchemaChanged(ISchemaDescriptor desc, URL url) {
-		if (!desc.getSchemaURL().toExternalForm().equals(url.toExternalForm())) {
-			return true;
+		if (!"file".equals(url.getProtocol())) { //$NON-NLS-1$
+			// the descriptors do not track the modification of jarred schemas
+			return false;
 		}
 		File file = new File(url.getFile());
 		return (desc.getLastModified() != file.lastModified());
@@ -184,6 +226,7 @@ public class SchemaRegistry {
 
 	public void shutdown() {
 		fRegistry.clear();
+		CompiledSchemaCache.shutdown();
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
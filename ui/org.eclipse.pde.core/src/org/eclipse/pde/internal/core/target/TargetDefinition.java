@@ -27,11 +27,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +50,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -118,7 +126,16 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	// locations may be resolved concurrently, see #resolve(IProgressMonitor)
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
+
+	/**
+	 * Maximum number of target locations resolved concurrently, configurable
+	 * through the <code>pde.target.resolveParallelism</code> system property.
+	 * Locations are resolved sequentially by default, as locations contributed
+	 * by other plug-ins are not required to resolve in a thread safe way.
+	 */
+	private static final int RESOLVE_PARALLELISM = Integer.getInteger("pde.target.resolveParallelism", 1); //$NON-NLS-1$
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -373,29 +390,32 @@ public class TargetDefinition implements ITargetDefinition {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
+			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
+			List<ITargetLocation> locations = new ArrayList<>();
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					locations.add(location);
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			runConcurrently(locations, (location, monitor) -> {
+				IStatus s = location.resolve(this, monitor);
+				return s.isOK() ? List.of() : List.of(s);
+			}, subMonitor).forEach(status::add);
 			if (!synchronizers.isEmpty()) {
 				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
 						.toList();
 				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
+				// there is one synchronizer per target and synchronizing is
+				// serialized on it, so these are not run concurrently
 				for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
 					subMonitor.checkCanceled();
 					try {
@@ -428,6 +448,55 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Runs the given task for each of the items, using up to
+	 * {@link #RESOLVE_PARALLELISM} threads. Each task consumes 100 ticks of the
+	 * given monitor. The returned statuses are in the order of the items,
+	 * independent of the order in which the tasks completed.
+	 */
+	private static <T> List<IStatus> runConcurrently(Collection<T> items,
+			BiFunction<T, IProgressMonitor, List<IStatus>> task, SubMonitor subMonitor) {
+		List<IStatus> result = new ArrayList<>();
+		int parallelism = Math.min(RESOLVE_PARALLELISM, items.size());
+		if (parallelism <= 1) {
+			for (T item : items) {
+				subMonitor.checkCanceled();
+				result.addAll(task.apply(item, subMonitor.split(100)));
+			}
+			return result;
+		}
+		// SubMonitor is not thread safe, the workers only observe cancellation
+		// and progress is reported from this thread as the tasks complete
+		IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return subMonitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<List<IStatus>>> futures = items.stream()
+					.map(item -> executor.submit(() -> task.apply(item, workerMonitor))).toList();
+			for (Future<List<IStatus>> future : futures) {
+				try {
+					result.addAll(future.get());
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					result.add(Status.error(e.getCause().getMessage(), e.getCause()));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				}
+				subMonitor.split(100);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return result;
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
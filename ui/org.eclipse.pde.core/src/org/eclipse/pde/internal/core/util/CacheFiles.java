@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Reads and writes the binary cache files that PDE keeps in its state
+ * location. A cache file starts with a magic number and a format version, so
+ * that files of other or older formats are ignored, and is replaced
+ * atomically when it is written.
+ */
+public final class CacheFiles {
+
+	/**
+	 * Number of bytes allocated at once for reading a length prefixed value
+	 */
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Reads the content of a cache file.
+	 */
+	@FunctionalInterface
+	public interface ContentReader {
+		void read(DataInputStream in) throws IOException;
+	}
+
+	/**
+	 * Writes the content of a cache file.
+	 */
+	@FunctionalInterface
+	public interface ContentWriter {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private CacheFiles() { // static use only
+	}
+
+	/**
+	 * Reads the given cache file if it exists and has the given magic number
+	 * and format version.
+	 *
+	 * @param file
+	 *            the cache file
+	 * @param magic
+	 *            the magic number of the cache
+	 * @param formatVersion
+	 *            the current format version of the cache
+	 * @param reader
+	 *            reads the content following the header
+	 * @return whether the content was read
+	 * @throws IOException
+	 *             if the file cannot be read or is corrupt
+	 */
+	public static boolean read(File file, int magic, int formatVersion, ContentReader reader) throws IOException {
+		if (file == null || !file.isFile()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != magic || in.readInt() != formatVersion) {
+				return false;
+			}
+			reader.read(in);
+			return true;
+		}
+	}
+
+	/**
+	 * Writes the given cache file with the given magic number and format
+	 * version. The content is written to a temporary file first that then
+	 * replaces the cache file, so readers never see a partially written
+	 * file.
+	 *
+	 * @param file
+	 *            the cache file
+	 * @param magic
+	 *            the magic number of the cache
+	 * @param formatVersion
+	 *            the current format version of the cache
+	 * @param writer
+	 *            writes the content following the header
+	 * @throws IOException
+	 *             if the file cannot be written
+	 */
+	public static void write(File file, int magic, int formatVersion, ContentWriter writer) throws IOException {
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(magic);
+				out.writeInt(formatVersion);
+				writer.write(out);
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			tmp.delete();
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes a length prefixed UTF-8 string, which unlike
+	 * {@link DataOutput#writeUTF(String)} is not limited to 64k, e.g. for
+	 * large Export-Package headers.
+	 *
+	 * @param out
+	 *            the output
+	 * @param value
+	 *            the string or <code>null</code>
+	 * @throws IOException
+	 *             if the string cannot be written
+	 */
+	public static void writeString(DataOutput out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutput, String)}.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the string or <code>null</code>
+	 * @throws IOException
+	 *             if the string cannot be read
+	 */
+	public static String readString(DataInput in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		return new String(readBytes(in, length), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads the given number of bytes. The bytes are read in chunks, so a
+	 * length read from a corrupt file fails with an {@link IOException} once
+	 * the end of the file is reached instead of allocating the whole length
+	 * up front.
+	 *
+	 * @param in
+	 *            the input
+	 * @param length
+	 *            the number of bytes to read
+	 * @return the bytes
+	 * @throws IOException
+	 *             if the length is negative or the bytes cannot be read
+	 */
+	public static byte[] readBytes(DataInput in, int length) throws IOException {
+		if (length < 0) {
+			throw new IOException("Invalid length: " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[Math.min(length, CHUNK_SIZE)];
+		int read = 0;
+		while (true) {
+			in.readFully(bytes, read, bytes.length - read);
+			read = bytes.length;
+			if (read == length) {
+				return bytes;
+			}
+			bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,8 +24,6 @@ import java.io.InputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
-import javax.xml.parsers.FactoryConfigurationError;
-
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
@@ -147,13 +145,14 @@ public class CoreUtility {
 		}
 	}
 
+	/**
+	 * Returns whether the given jar contains the given resource. The entries
+	 * of the jar are looked up in the shared {@link JarEntryIndex}.
+	 */
 	public static boolean jarContainsResource(File file, String resource, boolean directory) {
-		try (ZipFile jarFile = new ZipFile(file, ZipFile.OPEN_READ);) {
-			ZipEntry resourceEntry = jarFile.getEntry(resource);
-			if (resourceEntry != null) {
-				return directory ? resourceEntry.isDirectory() : true;
-			}
-		} catch (IOException | FactoryConfigurationError e) {
+		try {
+			return JarEntryIndex.contains(file, resource, directory);
+		} catch (IOException e) {
 			PDECore.logException(e);
 		}
 		return false;
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Shared index of the entry names of jar files, so that repeated lookups of
+ * resources in jarred bundles do not open and scan the jar each time. An
+ * index is reused as long as the modification time and the size of the jar
+ * are unchanged. The indexes of the least recently used jars are dropped when
+ * more than {@value #MAX_JARS} jars are indexed, and all indexes are dropped
+ * when the target platform is reloaded.
+ * <p>
+ * This class may be used concurrently.
+ * </p>
+ */
+public final class JarEntryIndex {
+
+	private static final int MAX_JARS = 256;
+
+	private record Index(long lastModified, long length, Set<String> names) {
+
+		boolean contains(String resource, boolean directory) {
+			if (names.contains(resource)) {
+				return !directory || resource.endsWith("/"); //$NON-NLS-1$
+			}
+			// like ZipFile.getEntry(), fall back to the directory entry
+			return names.contains(resource + '/');
+		}
+	}
+
+	private static final Map<File, Index> fgIndexes = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, Index> eldest) {
+			return size() > MAX_JARS;
+		}
+	};
+
+	private JarEntryIndex() { // static use only
+	}
+
+	/**
+	 * Returns whether the given jar contains an entry with the given name.
+	 *
+	 * @param jar
+	 *            the jar file
+	 * @param resource
+	 *            the name of the entry, relative to the root of the jar
+	 * @param directory
+	 *            whether the entry must be a directory
+	 * @return whether the entry exists
+	 * @throws IOException
+	 *             if the jar cannot be read
+	 */
+	public static boolean contains(File jar, String resource, boolean directory) throws IOException {
+		return getIndex(jar).contains(resource, directory);
+	}
+
+	/**
+	 * Drops all indexes, e.g. because the target platform was reloaded.
+	 */
+	public static void clear() {
+		synchronized (fgIndexes) {
+			fgIndexes.clear();
+		}
+	}
+
+	private static Index getIndex(File jar) throws IOException {
+		long lastModified = jar.lastModified();
+		long length = jar.length();
+		Index index;
+		synchronized (fgIndexes) {
+			index = fgIndexes.get(jar);
+		}
+		if (index != null && index.lastModified() == lastModified && index.length() == length) {
+			return index;
+		}
+		// read the jar outside of the lock, a concurrent reader just wins
+		Set<String> names = new HashSet<>();
+		try (ZipFile zipFile = new ZipFile(jar, ZipFile.OPEN_READ)) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				names.add(entries.nextElement().getName());
+			}
+		}
+		index = new Index(lastModified, length, names);
+		synchronized (fgIndexes) {
+			fgIndexes.put(jar, index);
+		}
+		return index;
+	}
+}
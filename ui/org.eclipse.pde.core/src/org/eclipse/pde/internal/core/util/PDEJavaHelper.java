@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -32,8 +34,10 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
@@ -103,6 +107,65 @@ public class PDEJavaHelper {
 		return false;
 	}
 
+	/**
+	 * Returns which of the given fully qualified type names are on the classpath
+	 * of the project. The top-level types are looked up with a single search of
+	 * the type name index. Types that are not found that way, like member types
+	 * or types of a project that is not indexed yet, are looked up one by one
+	 * like {@link #isOnClasspath(String, IJavaProject)}.
+	 *
+	 * @param fullyQualifiedNames the type names, member types separated by '$'
+	 * @param project the project whose classpath is searched
+	 * @return the names of the types on the classpath
+	 */
+	public static Set<String> findTypesOnClasspath(Set<String> fullyQualifiedNames, IJavaProject project) {
+		Set<String> qualifications = new HashSet<>();
+		Set<String> simpleNames = new HashSet<>();
+		for (String name : fullyQualifiedNames) {
+			if (name.indexOf('$') == -1) {
+				int dot = name.lastIndexOf('.');
+				qualifications.add(dot == -1 ? "" : name.substring(0, dot)); //$NON-NLS-1$
+				simpleNames.add(name.substring(dot + 1));
+			}
+		}
+		Set<String> found = new HashSet<>();
+		if (!simpleNames.isEmpty()) {
+			try {
+				IJavaSearchScope scope = SearchEngine.createJavaSearchScope(new IJavaElement[] {project});
+				// matches every combination of qualification and name, the exact names are filtered below
+				new SearchEngine().searchAllTypeNames(toCharArrays(qualifications), toCharArrays(simpleNames), scope,
+						new TypeNameRequestor() {
+							@Override
+							public void acceptType(int modifiers, char[] packageName, char[] simpleTypeName,
+									char[][] enclosingTypeNames, String path) {
+								if (enclosingTypeNames.length == 0) {
+									String name = new String(simpleTypeName);
+									found.add(packageName.length == 0 ? name : new String(packageName) + '.' + name);
+								}
+							}
+						}, IJavaSearchConstants.FORCE_IMMEDIATE_SEARCH, null);
+			} catch (JavaModelException e) {
+				// look the types up one by one
+			}
+		}
+		found.retainAll(fullyQualifiedNames);
+		for (String name : fullyQualifiedNames) {
+			if (!found.contains(name) && isOnClasspath(name, project)) {
+				found.add(name);
+			}
+		}
+		return found;
+	}
+
+	private static char[][] toCharArrays(Set<String> strings) {
+		char[][] result = new char[strings.size()][];
+		int i = 0;
+		for (String string : strings) {
+			result[i++] = string.toCharArray();
+		}
+		return result;
+	}
+
 	public static boolean isOnClasspath(String fullyQualifiedName, IJavaProject project) {
 		if (fullyQualifiedName.indexOf('$') != -1) {
 			fullyQualifiedName = fullyQualifiedName.replace('$', '.');
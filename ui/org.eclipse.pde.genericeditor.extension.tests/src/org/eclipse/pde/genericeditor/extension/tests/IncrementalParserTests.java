@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
+import org.junit.Test;
+
+public class IncrementalParserTests {
+
+	private static final String[] INSERTIONS = { "x", "<unit id=\"new\" version=\"2.0.0\"/>", "</location>", "<!--",
+			"-->", "<", "\"", " ", "<location>", "/>", "<unit id=\"a\">", "</unit>" };
+
+	static String createTarget(int locations, int unitsPerLocation) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+		builder.append("<?pde version=\"3.8\"?>\n");
+		builder.append("<!-- generated -->\n");
+		builder.append("<target name=\"generated\" sequenceNumber=\"1\">\n<locations>\n");
+		for (int l = 0; l < locations; l++) {
+			builder.append("<location includeAllPlatforms=\"false\" includeMode=\"planner\" type=\"InstallableUnit\">\n");
+			builder.append("\t<repository location=\"https://example.org/repository").append(l).append("\"/>\n");
+			for (int u = 0; u < unitsPerLocation; u++) {
+				builder.append("\t<unit id=\"org.example.bundle").append(l).append('_').append(u)
+						.append("\" version=\"1.0.").append(u).append("\"/>\n");
+			}
+			builder.append("</location>\n");
+		}
+		builder.append("</locations>\n</target>\n");
+		return builder.toString();
+	}
+
+	@Test
+	public void testEditInsideLocation() throws Exception {
+		String text = createTarget(3, 20);
+		Parser parser = new Parser(true);
+		IDocument document = new Document(text);
+		parser.parse(document);
+		Node target = parser.getRootNode();
+		Node locations = target.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG).get(0);
+		Node first = locations.getChildNodes().get(0);
+		Node third = locations.getChildNodes().get(2);
+
+		int offset = text.indexOf("version=\"1.0.5\"", text.indexOf("repository1")) + "version=\"1.0.5".length();
+		document.replace(offset, 0, "-edited");
+		parser.parse(document);
+
+		// the tree is patched, only the edited location is replaced
+		assertSame(target, parser.getRootNode());
+		assertSame(first, locations.getChildNodes().get(0));
+		assertSame(third, locations.getChildNodes().get(2));
+		LocationNode second = (LocationNode) locations.getChildNodes().get(1);
+		assertEquals("https://example.org/repository1", second.getRepositoryLocation());
+		UnitNode unit = (UnitNode) second.getChildNodesByTag(ITargetConstants.UNIT_TAG).get(5);
+		assertEquals("1.0.5-edited", unit.getVersion());
+		assertNull(assertModelEquals(parser, document));
+	}
+
+	@Test
+	public void testEditOutsideLocation() throws Exception {
+		String text = createTarget(2, 5);
+		Parser parser = new Parser(true);
+		IDocument document = new Document(text);
+		parser.parse(document);
+		document.replace(text.indexOf("generated\""), "generated".length(), "renamed");
+		parser.parse(document);
+		assertNull(assertModelEquals(parser, document));
+	}
+
+	@Test
+	public void testIncrementalError() throws Exception {
+		String text = createTarget(2, 5);
+		Parser parser = new Parser(true);
+		IDocument document = new Document(text);
+		parser.parse(document);
+		// an unclosed unit inside a location needs the error of a full parse
+		document.replace(text.indexOf("<unit"), 0, "<unit>");
+		assertThrows(XMLStreamException.class, () -> parser.parse(document));
+		assertThrows(XMLStreamException.class, () -> parser.parse(document));
+		assertNotNull(parser.getRootNode());
+	}
+
+	@Test
+	public void testRandomEdits() throws Exception {
+		String original = createTarget(4, 25);
+		Random random = new Random(4711);
+		Parser parser = new Parser(true);
+		IDocument document = new Document(original);
+		for (int i = 0; i < 500; i++) {
+			if (i % 25 == 0) {
+				document.set(original);
+			} else {
+				int offset = random.nextInt(document.getLength());
+				if (random.nextBoolean()) {
+					document.replace(offset, 0, INSERTIONS[random.nextInt(INSERTIONS.length)]);
+				} else {
+					document.replace(offset, Math.min(random.nextInt(20), document.getLength() - offset), "");
+				}
+			}
+			XMLStreamException incrementalError = null;
+			try {
+				parser.parse(document);
+			} catch (XMLStreamException e) {
+				incrementalError = e;
+			}
+			XMLStreamException fullError = assertModelEquals(parser, document);
+			assertEquals(fullError == null, incrementalError == null);
+		}
+	}
+
+	/**
+	 * Asserts that the model of the given parser equals the model of a full
+	 * parse of the document
+	 *
+	 * @return the error of the full parse
+	 */
+	private XMLStreamException assertModelEquals(Parser parser, IDocument document) {
+		Parser fullParser = new Parser(false);
+		XMLStreamException error = null;
+		try {
+			fullParser.parse(document);
+		} catch (XMLStreamException e) {
+			error = e;
+		}
+		assertEquals(toString(fullParser.getRootNode()), toString(parser.getRootNode()));
+		return error;
+	}
+
+	private static String toString(Node node) {
+		StringBuilder builder = new StringBuilder();
+		append(builder, node, 0);
+		return builder.toString();
+	}
+
+	private static void append(StringBuilder builder, Node node, int depth) {
+		if (node == null) {
+			return;
+		}
+		builder.append("\t".repeat(depth)).append(node.getNodeTag()).append(' ').append(node.getOffsetStart())
+				.append('-').append(node.getOffsetEnd());
+		if (node instanceof UnitNode unit) {
+			builder.append(' ').append(unit.getId()).append(' ').append(unit.getVersion());
+		} else if (node instanceof LocationNode location) {
+			builder.append(' ').append(location.getRepositoryLocation());
+		}
+		builder.append('\n');
+		for (Node child : node.getChildNodes()) {
+			append(builder, child, depth + 1);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RepositoryCacheTests extends AbstractTargetEditorTest {
+
+	private final RepositoryCache cache = RepositoryCache.getDefault();
+	private String repo;
+
+	@Before
+	public void setUp() {
+		cache.flush();
+		repo = getLocationForSite("MultipleUnitsConfirmSorting");
+	}
+
+	@After
+	public void flushCache() {
+		cache.flush();
+	}
+
+	@Test
+	public void testFetch() {
+		assertFalse(cache.isUpToDate(repo));
+		List<UnitNode> units = cache.fetchP2UnitsFromRepo(repo, false);
+		assertEquals(7, units.size());
+		assertTrue(cache.isUpToDate(repo));
+		assertSame(units, cache.fetchP2UnitsFromRepo(repo, false));
+	}
+
+	@Test
+	public void testGetUnit() {
+		UnitNode unit = cache.getUnit(repo, "org.eclipse.fake.6");
+		assertNotNull(unit);
+		assertEquals("org.eclipse.fake.6", unit.getId());
+		assertTrue(unit.getAvailableVersions().contains("1.10.0"));
+		assertTrue(unit.getAvailableVersions().contains("1.9.0"));
+		assertNull(cache.getUnit(repo, "org.eclipse.fake"));
+		assertNull(cache.getUnit(repo, null));
+	}
+
+	@Test
+	public void testUnitsByPrefix() {
+		List<UnitNode> units = cache.getUnitsByPrefix(repo, "org.eclipse.fake.");
+		assertEquals(7, units.size());
+		for (int i = 0; i < units.size(); i++) {
+			assertEquals("org.eclipse.fake." + (i + 1), units.get(i).getId());
+		}
+		units = cache.getUnitsByPrefix(repo, "org.eclipse.fake.3");
+		assertEquals(1, units.size());
+		assertEquals("org.eclipse.fake.3", units.get(0).getId());
+		assertTrue(cache.getUnitsByPrefix(repo, "org.eclipse.fakes").isEmpty());
+		assertTrue(cache.getUnitsByPrefix(repo, "zzz").isEmpty());
+	}
+
+	@Test
+	public void testUnitsBySearchTerm() {
+		assertEquals(7, cache.getUnitsBySearchTerm(repo, "fake").size());
+		List<UnitNode> units = cache.getUnitsBySearchTerm(repo, "fake.5");
+		assertEquals(1, units.size());
+		assertEquals("org.eclipse.fake.5", units.get(0).getId());
+		assertTrue(cache.getUnitsBySearchTerm(repo, "banana").isEmpty());
+	}
+
+	@Test
+	public void testConcurrentFetch() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<List<UnitNode>>> fetches = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				fetches.add(() -> cache.fetchP2UnitsFromRepo(repo, false));
+			}
+			List<UnitNode> first = null;
+			for (Future<List<UnitNode>> result : executor.invokeAll(fetches)) {
+				if (first == null) {
+					first = result.get();
+				}
+				// the repository is fetched only once
+				assertSame(first, result.get());
+			}
+			assertEquals(7, first.size());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testFlush() {
+		List<UnitNode> units = cache.fetchP2UnitsFromRepo(repo, false);
+		List<UnitNode> refetched = cache.fetchP2UnitsFromRepo(repo, true);
+		assertEquals(units.size(), refetched.size());
+		assertNotSame(units, refetched);
+		cache.flush();
+		assertFalse(cache.isUpToDate(repo));
+	}
+
+	@Test
+	public void testUnknownRepository() {
+		String unknown = "file:/does/not/exist/";
+		assertTrue(cache.fetchP2UnitsFromRepo(unknown, false).isEmpty());
+		assertTrue(cache.getUnitsByPrefix(unknown, "org").isEmpty());
+		assertNull(cache.getUnit(unknown, "org.eclipse.fake.1"));
+	}
+}
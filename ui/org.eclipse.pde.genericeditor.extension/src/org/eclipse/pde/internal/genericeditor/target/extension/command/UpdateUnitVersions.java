@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.command;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -84,19 +85,14 @@ public class UpdateUnitVersions extends AbstractHandler {
 						continue;
 					}
 				}
-				List<UnitNode> repositoryUnits = cache.fetchP2UnitsFromRepo(repositoryLocation, false);
 				for (Node n2 : locationNode.getChildNodesByTag(ITargetConstants.UNIT_TAG)) {
 					UnitNode unitNode = ((UnitNode) n2);
-					List<String> versions = null;
-					for (UnitNode unit : repositoryUnits) {
-						if (unit.getId().equals(unitNode.getId())) {
-							versions = unit.getAvailableVersions();
-							break;
-						}
-					}
-					if (versions == null || versions.isEmpty()) {
+					UnitNode unit = cache.getUnit(repositoryLocation, unitNode.getId());
+					if (unit == null || unit.getAvailableVersions().isEmpty()) {
 						continue;
 					}
+					// the cached units are shared, so sort a copy
+					List<String> versions = new ArrayList<>(unit.getAvailableVersions());
 					Collections.sort(versions, (v1, v2) -> (new Version(v2)).compareTo(new Version(v1)));
 					String version = versions.get(0);
 					if (version == null || version.isEmpty() || unitNode.getVersion() == null
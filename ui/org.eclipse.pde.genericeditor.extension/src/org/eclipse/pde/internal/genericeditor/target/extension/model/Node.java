@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,24 @@ public class Node {
 		child.setParentNode(this);
 	}
 
+	/**
+	 * Replaces a child node, keeping its position among the children.
+	 *
+	 * @param oldChild
+	 *            the child to replace
+	 * @param newChild
+	 *            the node to put in its place
+	 */
+	public void replaceChildNode(Node oldChild, Node newChild) {
+		int index = childNodes == null ? -1 : childNodes.indexOf(oldChild);
+		if (index < 0) {
+			addChildNode(newChild);
+			return;
+		}
+		childNodes.set(index, newChild);
+		newChild.setParentNode(this);
+	}
+
 	public Node getParentNode() {
 		return parentNode;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,29 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class is used to cache the p2 repositories completion information order
@@ -28,12 +45,66 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
  *
  * There will be only one cache shared between editors. In the future a function
  * will be added for the user to be able to flush this cache.
+ * <p>
+ * The cache may be accessed concurrently, repositories are fetched at most
+ * once at a time. At most {@link #MAX_REPOSITORIES} repositories are kept, the
+ * least recently used one is evicted first, and the units of a repository are
+ * fetched again once they are older than {@link #TIME_TO_LIVE}. Fetched units
+ * are also stored in the state location of this bundle, so completion is
+ * available right away after a restart.
+ * </p>
  */
 public class RepositoryCache {
 
-	private static RepositoryCache instance;
+	/**
+	 * Maximum number of repositories whose units are kept in memory
+	 */
+	static final int MAX_REPOSITORIES = 32;
+
+	/**
+	 * Time in milliseconds after which the units of a repository are fetched
+	 * again
+	 */
+	static final long TIME_TO_LIVE = 24 * 60 * 60 * 1000L;
+
+	private static final String STORE_DIRECTORY = "repositories"; //$NON-NLS-1$
+	private static final int MAGIC = 0x50325543;
+	private static final int FORMAT_VERSION = 1;
+
+	private static final RepositoryCache instance = new RepositoryCache();
+
+	/**
+	 * The units of a repository, sorted by id to answer prefix queries with a
+	 * binary search
+	 */
+	private static final class Units {
+		final List<UnitNode> units;
+		final UnitNode[] sortedUnits;
+		final String[] sortedIds;
+		final long fetchTime;
+		long generation;
+		volatile long lastAccess;
 
-	Map<String, List<UnitNode>> cache = new HashMap<>();
+		Units(List<UnitNode> units, long fetchTime) {
+			this.units = Collections.unmodifiableList(units);
+			this.sortedUnits = units.toArray(new UnitNode[units.size()]);
+			Arrays.sort(sortedUnits, Comparator.comparing(UnitNode::getId));
+			this.sortedIds = new String[sortedUnits.length];
+			for (int i = 0; i < sortedUnits.length; i++) {
+				sortedIds[i] = sortedUnits[i].getId();
+			}
+			this.fetchTime = fetchTime;
+			this.lastAccess = System.currentTimeMillis();
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() - fetchTime > TIME_TO_LIVE;
+		}
+	}
+
+	private final Map<String, Units> cache = new ConcurrentHashMap<>();
+	private final Map<String, Object> fetchLocks = new ConcurrentHashMap<>();
+	private final AtomicLong generations = new AtomicLong();
 
 	private RepositoryCache() {
 		//avoid instantiation
@@ -44,9 +115,6 @@ public class RepositoryCache {
 	 */
 
 	public static RepositoryCache getDefault() {
-		if (instance == null) {
-			instance = new RepositoryCache();
-		}
 		return instance;
 	}
 
@@ -61,11 +129,82 @@ public class RepositoryCache {
 	 *         <code>null</code>.
 	 */
 	public List<UnitNode> fetchP2UnitsFromRepo(String repo, boolean flush) {
-		if ((flush) || (cache.get(repo) == null)) {
-			List<UnitNode> units = P2Fetcher.fetchAvailableUnits(repo);
+		return getUnits(repo, flush).units;
+	}
+
+	private Units getUnits(String repo, boolean flush) {
+		long generation = generations.get();
+		Units units = cache.get(repo);
+		if (!flush && units != null && !units.isExpired()) {
+			units.lastAccess = System.currentTimeMillis();
+			return units;
+		}
+		synchronized (fetchLocks.computeIfAbsent(repo, r -> new Object())) {
+			units = cache.get(repo);
+			// a concurrent fetch that started after this call is as good as a flush
+			if (units != null && !units.isExpired() && (!flush || units.generation > generation)) {
+				units.lastAccess = System.currentTimeMillis();
+				return units;
+			}
+			if (!flush) {
+				units = load(repo);
+			} else {
+				units = null;
+			}
+			long fetchGeneration = generations.incrementAndGet();
+			if (units == null) {
+				List<UnitNode> fetched = P2Fetcher.fetchAvailableUnits(repo);
+				units = new Units(new ArrayList<>(fetched), System.currentTimeMillis());
+				if (!fetched.isEmpty()) {
+					store(repo, units);
+				}
+			}
+			units.generation = fetchGeneration;
 			cache.put(repo, units);
 		}
-		return cache.get(repo);
+		evict();
+		return units;
+	}
+
+	/**
+	 * Evicts the least recently used repositories if more than
+	 * {@link #MAX_REPOSITORIES} are cached.
+	 */
+	private void evict() {
+		while (cache.size() > MAX_REPOSITORIES) {
+			String eldest = null;
+			long eldestAccess = Long.MAX_VALUE;
+			for (Map.Entry<String, Units> entry : cache.entrySet()) {
+				if (entry.getValue().lastAccess < eldestAccess) {
+					eldestAccess = entry.getValue().lastAccess;
+					eldest = entry.getKey();
+				}
+			}
+			if (eldest == null) {
+				return;
+			}
+			cache.remove(eldest);
+			fetchLocks.remove(eldest);
+		}
+	}
+
+	/**
+	 * Returns the unit with the given id from the given repository.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @param id
+	 *            the id of the unit
+	 * @return the unit or <code>null</code> if the repository does not contain
+	 *         it
+	 */
+	public UnitNode getUnit(String repo, String id) {
+		if (id == null) {
+			return null;
+		}
+		Units units = getUnits(repo, false);
+		int index = Arrays.binarySearch(units.sortedIds, id);
+		return index >= 0 ? units.sortedUnits[index] : null;
 	}
 
 	/**
@@ -83,15 +222,17 @@ public class RepositoryCache {
 	 *            repository URL
 	 * @param prefix
 	 *            A prefix used to narrow down the match list
-	 * @return A list of IUs whose id starts with 'prefix'
+	 * @return A list of IUs whose id starts with 'prefix', sorted by id
 	 */
 	public List<UnitNode> getUnitsByPrefix(String repo, String prefix) {
-		List<UnitNode> allUnits = fetchP2UnitsFromRepo(repo, false);
+		Units units = getUnits(repo, false);
+		int index = Arrays.binarySearch(units.sortedIds, prefix);
+		if (index < 0) {
+			index = -index - 1;
+		}
 		List<UnitNode> result = new ArrayList<>();
-		for (UnitNode unit : allUnits) {
-			if (unit.getId().startsWith(prefix)) {
-				result.add(unit);
-			}
+		while (index < units.sortedIds.length && units.sortedIds[index].startsWith(prefix)) {
+			result.add(units.sortedUnits[index++]);
 		}
 		return result;
 	}
@@ -131,13 +272,127 @@ public class RepositoryCache {
 	 * @return whether the cache is up to date for this repo
 	 */
 	public boolean isUpToDate(String repo) {
-		return cache.get(repo) != null;
+		Units units = cache.get(repo);
+		return units != null && !units.isExpired();
 	}
 
 	/**
 	 * Used to flush cache in case P2 repo information is considered stale.
+	 * The stored units are discarded as well.
 	 */
 	public void flush() {
 		cache.clear();
+		File directory = getStoreDirectory();
+		if (directory != null) {
+			File[] files = directory.listFiles();
+			if (files != null) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+		}
+	}
+
+	private static File getStoreDirectory() {
+		Bundle bundle = FrameworkUtil.getBundle(RepositoryCache.class);
+		if (bundle == null) {
+			return null;
+		}
+		return Platform.getStateLocation(bundle).append(STORE_DIRECTORY).toFile();
+	}
+
+	private static File getStoreFile(String repo) {
+		File directory = getStoreDirectory();
+		if (directory == null) {
+			return null;
+		}
+		return new File(directory, Integer.toHexString(repo.hashCode()) + ".units"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Loads the stored units of the given repository
+	 *
+	 * @return the units or <code>null</code> if none are stored or they expired
+	 */
+	private static Units load(String repo) {
+		File file = getStoreFile(repo);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !repo.equals(readString(in))) {
+				return null;
+			}
+			long fetchTime = in.readLong();
+			int count = in.readInt();
+			List<UnitNode> units = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				UnitNode unit = new UnitNode();
+				unit.setId(readString(in));
+				unit.setVersion(readString(in));
+				int versionCount = in.readInt();
+				for (int j = 0; j < versionCount; j++) {
+					unit.getAvailableVersions().add(readString(in));
+				}
+				units.add(unit);
+			}
+			Units result = new Units(units, fetchTime);
+			return result.isExpired() ? null : result;
+		} catch (IOException | RuntimeException e) {
+			// a corrupt file is simply fetched again
+			return null;
+		}
+	}
+
+	private static void store(String repo, Units units) {
+		File file = getStoreFile(repo);
+		if (file == null) {
+			return;
+		}
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			Files.createDirectories(file.getParentFile().toPath());
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				writeString(out, repo);
+				out.writeLong(units.fetchTime);
+				out.writeInt(units.units.size());
+				for (UnitNode unit : units.units) {
+					writeString(out, unit.getId());
+					writeString(out, unit.getVersion());
+					List<String> versions = unit.getAvailableVersions();
+					out.writeInt(versions.size());
+					for (String version : versions) {
+						writeString(out, version);
+					}
+				}
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			ILog.get().error("Failed to store the units of " + repo, e); //$NON-NLS-1$
+			tmp.delete();
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,10 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
 
 import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,16 +36,46 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 
 /**
  * Class used to parse the XML code into the model.
+ * <p>
+ * In incremental mode the parser remembers the text it parsed last. If only
+ * the content of a single <code>location</code> element changed since then,
+ * only that element is parsed again and patched into the existing model,
+ * instead of rebuilding the model of the whole document.
+ * </p>
  */
 public class Parser {
 
+	private static final Pattern TAG_PATTERN = Pattern.compile("(?<tag><[\\w|/][^<]+?>)", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern COMMENT_PATTERN = Pattern.compile("(<!--.*?-->)", Pattern.DOTALL); //$NON-NLS-1$
+	private static final String COMMENT_START = "<!--"; //$NON-NLS-1$
+	private static final String COMMENT_END = "-->"; //$NON-NLS-1$
+
 	private static Parser instance;
 
+	private record Tree(List<Node> roots, Node target) {
+	}
+
 	private Node target;
 
 	private XMLInputFactory inputFactory;
 
+	private final boolean incremental;
+
+	private String lastText;
+
+	private XMLStreamException lastException;
+
 	public Parser() {
+		this(true);
+	}
+
+	/**
+	 * @param incremental
+	 *            whether changes confined to a single <code>location</code>
+	 *            element only parse that element again
+	 */
+	public Parser(boolean incremental) {
+		this.incremental = incremental;
 		initializeParser();
 	}
 
@@ -50,11 +83,130 @@ public class Parser {
 		inputFactory = XMLInputFactory.newInstance();
 	}
 
-	public void parse(IDocument document) throws XMLStreamException {
-		target = null;
+	public synchronized void parse(IDocument document) throws XMLStreamException {
+		String text = document.get();
+		if (incremental && text.equals(lastText)) {
+			if (lastException != null) {
+				throw lastException;
+			}
+			return;
+		}
+		if (incremental && target != null && lastText != null && lastException == null && parseIncrementally(text)) {
+			lastText = text;
+			return;
+		}
+		lastText = text;
+		lastException = null;
+		target = buildTree(text, 0).target();
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes());
+		try {
+			XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
+			while (eventReader.hasNext()) {
+				eventReader.nextEvent();
+			}
+		} catch (XMLStreamException e) {
+			lastException = e;
+			throw e;
+		}
+	}
+
+	/**
+	 * Patches the model if the difference between the last parsed text and the
+	 * given text is confined to the content of a single location element.
+	 *
+	 * @return whether the model was patched, if not the text has to be parsed
+	 *         completely
+	 */
+	private boolean parseIncrementally(String text) {
+		String old = lastText;
+		int max = Math.min(old.length(), text.length());
+		int prefix = 0;
+		while (prefix < max && old.charAt(prefix) == text.charAt(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < max - prefix
+				&& old.charAt(old.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+			suffix++;
+		}
+		Node location = findEnclosingLocation(target, prefix, old.length() - suffix);
+		if (location == null) {
+			return false;
+		}
+		int delta = text.length() - old.length();
+		int start = location.getOffsetStart();
+		int end = location.getOffsetEnd();
+		String oldFragment = old.substring(start, end);
+		String fragment = text.substring(start, end + delta);
+		// comments may span beyond the location, so they need a full parse
+		if (oldFragment.contains(COMMENT_START) || oldFragment.contains(COMMENT_END)
+				|| fragment.contains(COMMENT_START) || fragment.contains(COMMENT_END)) {
+			return false;
+		}
+		Tree tree = buildTree(fragment, start);
+		if (tree.target() != null || tree.roots().size() != 1) {
+			return false;
+		}
+		Node replacement = tree.roots().get(0);
+		if (!(replacement instanceof LocationNode) || replacement.getOffsetEnd() != end + delta) {
+			return false;
+		}
+		// the rest of the document was well-formed, so it stays well-formed
+		// as long as the new location element is
+		try {
+			XMLEventReader eventReader = inputFactory.createXMLEventReader(new StringReader(fragment));
+			while (eventReader.hasNext()) {
+				eventReader.nextEvent();
+			}
+		} catch (XMLStreamException e) {
+			return false;
+		}
+		location.getParentNode().replaceChildNode(location, replacement);
+		shiftOffsets(target, replacement, end, delta);
+		return true;
+	}
+
+	/**
+	 * @return the outermost location node whose content contains the range,
+	 *         excluding its start and end, or <code>null</code>
+	 */
+	private Node findEnclosingLocation(Node node, int start, int end) {
+		for (Node child : node.getChildNodes()) {
+			if (child.getOffsetStart() < start && end < child.getOffsetEnd()) {
+				if (ITargetConstants.LOCATION_TAG.equalsIgnoreCase(child.getNodeTag())) {
+					return child;
+				}
+				return findEnclosingLocation(child, start, end);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Shifts all offsets at or after the given offset, except the ones of the
+	 * skipped subtree.
+	 */
+	private void shiftOffsets(Node node, Node skip, int offset, int delta) {
+		if (node == skip) {
+			return;
+		}
+		if (node.getOffsetStart() >= offset) {
+			node.setOffsetStart(node.getOffsetStart() + delta);
+		}
+		if (node.getOffsetEnd() >= offset) {
+			node.setOffsetEnd(node.getOffsetEnd() + delta);
+		}
+		for (Node child : node.getChildNodes()) {
+			shiftOffsets(child, skip, offset, delta);
+		}
+	}
+
+	private Tree buildTree(String text, int offset) {
+		List<Node> roots = new ArrayList<>();
+		Node root = null;
 		Node currentParent = null;
 		Node currentNode = null;
-		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(document.get());
+		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(text);
 		while (tagReaderIterator.hasNext()) {
 			XMLElement event = tagReaderIterator.next();
 			if (event.isStartElement()) {
@@ -81,80 +233,83 @@ public class Parser {
 						((LocationNode) currentParent).setRepositoryLocation(locationValue);
 					}
 				} else if (ITargetConstants.TARGET_TAG.equalsIgnoreCase(name)) {
-					target = new Node();
-					currentNode = target;
+					root = new Node();
+					currentNode = root;
 				} else {
 					currentNode = new Node();
 				}
 				currentNode.setNodeTag(name);
-				currentNode.setOffsetStart(event.getStartOffset());
+				currentNode.setOffsetStart(offset + event.getStartOffset());
 				if (currentParent != null) {
 					currentParent.addChildNode(currentNode);
+				} else {
+					roots.add(currentNode);
 				}
 				currentParent = currentNode;
 			}
 
 			if (event.isEndElement()) {
 				if (currentNode != null) {
-					currentNode.setOffsetEnd(event.getEndOffset());
+					currentNode.setOffsetEnd(offset + event.getEndOffset());
 					currentNode = currentNode.getParentNode();
 					currentParent = currentNode;
 				}
 			}
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(document.get().getBytes());
-		XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
-		while (eventReader.hasNext()) {
-			eventReader.nextEvent();
-		}
+		return new Tree(roots, root);
 	}
 
 	private Iterator<XMLElement> createXMLTagItterator(String document) {
 		return new Iterator<>() {
-			private final String tagRegex = "(?<tag><[\\w|/][^<]+?>)";
-			private final String commentRegex = "(<!--.*?-->)";
-			private final String beforeTagRegex = ".*?(?=".concat(tagRegex).concat(")");
+			private final Matcher tag = TAG_PATTERN.matcher(document);
+			private final Matcher comment = COMMENT_PATTERN.matcher(document);
 
-			private String text = document;
-
-			private final Pattern tagPattern = Pattern.compile(tagRegex, Pattern.DOTALL);
-			private final Pattern commentPattern = Pattern.compile(commentRegex, Pattern.DOTALL);
-			private final Pattern beforeTagPattern = Pattern.compile(beforeTagRegex, Pattern.DOTALL);
+			// position of the next unread character
+			private int position = 0;
+			// start of the next comment at or after the position, -1 if none
+			private int commentStart = -2;
+			// start of the next tag at or after the position, -1 if none
+			private int tagStart = -2;
 
 			@Override
 			public boolean hasNext() {
 				skipComments();
-				return text.length() > 0 && beforeTagPattern.matcher(text).find();
+				return tagStart >= 0;
 			}
 
 			@Override
 			public XMLElement next() {
 				skipComments();
-				text = beforeTagPattern.matcher(text).replaceFirst("");
-				Matcher tag = tagPattern.matcher(text);
-				tag.find();
-				int offset = document.length() - text.length();
-				text = text.substring(tag.end());
-				return new XMLElement(tag.group("tag"), offset);
+				position = tag.end();
+				tagStart = -2;
+				return new XMLElement(tag.group("tag"), tag.start()); //$NON-NLS-1$
 			}
 
 			private void skipComments() {
-				Matcher comment = commentPattern.matcher(text);
-				Matcher tag = tagPattern.matcher(text);
-				if (comment.find() && tag.find() && comment.start() < tag.start()) {
-					text = text.substring(comment.end());
+				while (true) {
+					if (tagStart == -2 || tagStart != -1 && tagStart < position) {
+						tagStart = tag.find(position) ? tag.start() : -1;
+					}
+					if (commentStart != -1 && commentStart < position) {
+						commentStart = comment.find(position) ? comment.start() : -1;
+					}
+					if (tagStart == -1 || commentStart == -1 || commentStart >= tagStart) {
+						return;
+					}
+					position = comment.end();
 				}
 			}
 		};
 	}
-	public static Parser getDefault() {
+
+	public static synchronized Parser getDefault() {
 		if (instance == null) {
 			instance = new Parser();
 		}
 		return instance;
 	}
 
-	public Node getRootNode() {
+	public synchronized Node getRootNode() {
 		return target;
 	}
 
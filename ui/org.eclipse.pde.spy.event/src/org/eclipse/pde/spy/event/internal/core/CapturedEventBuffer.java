@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * Bounded ring buffer between the threads that capture events and the UI
+ * thread that shows them. If events are captured faster than they are
+ * drained, the oldest events are overwritten.
+ */
+public class CapturedEventBuffer {
+
+	private final CapturedEvent[] events;
+
+	private int head;
+
+	private int size;
+
+	private long droppedCount;
+
+	/**
+	 * @param capacity
+	 *            the maximum number of events kept until they are drained
+	 */
+	public CapturedEventBuffer(int capacity) {
+		events = new CapturedEvent[capacity];
+	}
+
+	public synchronized void add(CapturedEvent event) {
+		events[(head + size) % events.length] = event;
+		if (size < events.length) {
+			size++;
+		} else {
+			head = (head + 1) % events.length;
+			droppedCount++;
+		}
+	}
+
+	/**
+	 * Removes all buffered events.
+	 *
+	 * @return the removed events, oldest first
+	 */
+	public synchronized List<CapturedEvent> drain() {
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+		List<CapturedEvent> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			int index = (head + i) % events.length;
+			result.add(events[index]);
+			events[index] = null;
+		}
+		head = 0;
+		size = 0;
+		return result;
+	}
+
+	public synchronized void clear() {
+		drain();
+		droppedCount = 0;
+	}
+
+	/**
+	 * @return the number of events that were overwritten before they were
+	 *         drained since the buffer was last cleared
+	 */
+	public synchronized long getDroppedCount() {
+		return droppedCount;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,19 +14,51 @@
 package org.eclipse.pde.spy.event.internal.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
 import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.eclipse.pde.spy.event.internal.model.Operator;
 import org.eclipse.pde.spy.event.internal.model.Parameter;
 import org.eclipse.pde.spy.event.internal.model.SpecialValue;
+import org.osgi.service.event.Event;
 
 public class CapturedEventFilterMatcher {
 	public boolean matches(CapturedEvent event, CapturedEventFilter filter) {
-		Object value = getItemToFilterValue(event, filter.getItemToFilter());
+		return matches(getItemToFilterValue(event, filter.getItemToFilter()), filter);
+	}
+
+	/**
+	 * Matches an event before it is captured, so that events which are
+	 * filtered out are never copied into a {@link CapturedEvent}.
+	 *
+	 * @param event
+	 *            the event to match
+	 * @param publisher
+	 *            supplies the publisher class name, only called if the filter
+	 *            needs it
+	 * @param filter
+	 *            the filter to match
+	 * @return whether the event matches the filter
+	 */
+	public boolean matches(Event event, Supplier<String> publisher, CapturedEventFilter filter) {
+		return matches(getItemToFilterValue(event, publisher, filter.getItemToFilter()), filter);
+	}
 
+	/**
+	 * @return the class name of the changed element of the event or an empty
+	 *         string
+	 */
+	public static String getChangedElementClassName(Event event) {
+		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+		return element != null ? element.getClass().getName() : ""; //$NON-NLS-1$
+	}
+
+	private boolean matches(Object value, CapturedEventFilter filter) {
 		if (value instanceof List) {
 			List<?> list = (List<?>) value;
 			for (Object item : list) {
@@ -66,9 +98,39 @@ public class CapturedEventFilterMatcher {
 		if (itemToFilter.equals(ItemToFilter.ParameterNameAndValue)) {
 			List<String> nameAndValues = new ArrayList<>();
 			for (Parameter parameter : event.getParameters()) {
-				String nameAndValue = String.format(SpecialValue.NameAndValue.toString(), parameter.getName().trim(),
-						(parameter.getValue() == null ? SpecialValue.Null : parameter.getValue().toString().trim()));
-				nameAndValues.add(nameAndValue);
+				nameAndValues.add(formatNameAndValue(parameter.getName(), parameter.getValue()));
+			}
+			return nameAndValues;
+		}
+
+		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedItem + itemToFilter.toString());
+	}
+
+	private Object getItemToFilterValue(Event event, Supplier<String> publisher, ItemToFilter itemToFilter) {
+		if (itemToFilter.equals(ItemToFilter.Topic)) {
+			return event.getTopic();
+		}
+		if (itemToFilter.equals(ItemToFilter.Publisher)) {
+			return publisher.get();
+		}
+		if (itemToFilter.equals(ItemToFilter.ChangedElement)) {
+			return getChangedElementClassName(event);
+		}
+		String[] names = event.getPropertyNames();
+		if (itemToFilter.equals(ItemToFilter.ParameterName)) {
+			return Arrays.asList(names);
+		}
+		if (itemToFilter.equals(ItemToFilter.ParameterValue)) {
+			List<Object> values = new ArrayList<>(names.length);
+			for (String name : names) {
+				values.add(event.getProperty(name));
+			}
+			return values;
+		}
+		if (itemToFilter.equals(ItemToFilter.ParameterNameAndValue)) {
+			List<String> nameAndValues = new ArrayList<>(names.length);
+			for (String name : names) {
+				nameAndValues.add(formatNameAndValue(name, event.getProperty(name)));
 			}
 			return nameAndValues;
 		}
@@ -76,6 +138,11 @@ public class CapturedEventFilterMatcher {
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedItem + itemToFilter.toString());
 	}
 
+	private static String formatNameAndValue(String name, Object value) {
+		return String.format(SpecialValue.NameAndValue.toString(), name.trim(),
+				(value == null ? SpecialValue.Null : value.toString().trim()));
+	}
+
 	private boolean matches(String expected, Object current, Operator operator) {
 		if (SpecialValue.Null.toString().equalsIgnoreCase(expected)) {
 			return operator.isPositive() ? matchesToNull(current) : !matchesToNull(current);
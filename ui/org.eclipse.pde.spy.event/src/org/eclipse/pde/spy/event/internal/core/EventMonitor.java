@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,8 @@
 package org.eclipse.pde.spy.event.internal.core;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
@@ -23,34 +23,64 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 
+/**
+ * Captures the events of an {@link IEventBroker}. Events are handled on the
+ * thread that delivers them, the publisher is only looked up from the stack if
+ * a filter or the captured event needs it, and events that do not match the
+ * filters are never copied into a {@link CapturedEvent}.
+ */
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
+	/**
+	 * Notified about captured events, possibly from any thread.
+	 */
 	public interface NewEventListener {
 		void newEvent(CapturedEvent event);
 	}
 
-	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
-			UIEventPublisher.class.getName().hashCode());
+	private static final String EVENT_BROKER_CLASS = EventBroker.class.getName();
 
-	private Collection<CapturedEventFilter> filters;
+	private static final Set<String> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName(),
+			UIEventPublisher.class.getName());
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	private volatile Collection<CapturedEventFilter> filters;
 
 	private final IEventBroker eventBroker;
 
-	private NewEventListener listener;
+	private volatile NewEventListener listener;
+
+	private volatile EventStatistics statistics;
 
-	private CapturedEventFilterMatcher eventFilterMatcher;
+	private final CapturedEventFilterMatcher eventFilterMatcher = new CapturedEventFilterMatcher();
 
 	private final EventHandler eventHandler = event -> {
-		if (listener == null) {
+		NewEventListener currentListener = listener;
+		EventStatistics currentStatistics = statistics;
+		if (currentListener == null && currentStatistics == null) {
+			return;
+		}
+
+		Supplier<String> publisher = new PublisherClassName();
+		if (!shouldBeCaptured(event, publisher)) {
+			return;
+		}
+
+		if (currentStatistics != null) {
+			currentStatistics.record(event.getTopic(), publisher);
+		}
+		if (currentListener == null) {
 			return;
 		}
 
 		CapturedEvent capturedEvent = new CapturedEvent();
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+		capturedEvent.setPublisherClassName(publisher.get());
 
 		for (String propertyName : event.getPropertyNames()) {
 			Object value = event.getProperty(propertyName);
@@ -60,33 +90,63 @@ public class EventMonitor {
 			}
 		}
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
-		}
+		currentListener.newEvent(capturedEvent);
 	};
 
+	/**
+	 * Looks up the publisher on the stack of the publishing thread when first
+	 * requested.
+	 */
+	private static final class PublisherClassName implements Supplier<String> {
+		private String className;
+
+		@Override
+		public String get() {
+			if (className == null) {
+				className = getPublisherClassName();
+			}
+			return className;
+		}
+	}
+
 	public EventMonitor(IEventBroker eventBroker) {
 		this.eventBroker = eventBroker;
 	}
 
 	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
 		this.filters = filters;
-		eventBroker.subscribe(baseTopic, eventHandler);
+		// headless, so that publishers are neither blocked by nor moved to the
+		// UI thread
+		eventBroker.subscribe(baseTopic, null, eventHandler, true);
 	}
 
 	public void stop() {
 		eventBroker.unsubscribe(eventHandler);
 	}
 
+	/**
+	 * @param listener
+	 *            the listener notified about captured events, or
+	 *            <code>null</code> to not create captured events
+	 */
 	public void setNewEventListener(NewEventListener listener) {
 		this.listener = listener;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
+	/**
+	 * @param statistics
+	 *            the statistics that count the captured events, or
+	 *            <code>null</code> to not count them
+	 */
+	public void setEventStatistics(EventStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	private boolean shouldBeCaptured(Event event, Supplier<String> publisher) {
+		Collection<CapturedEventFilter> currentFilters = filters;
+		if (currentFilters != null) {
+			for (CapturedEventFilter filter : currentFilters) {
+				if (!eventFilterMatcher.matches(event, publisher, filter)) {
 					return false;
 				}
 			}
@@ -94,25 +154,14 @@ public class EventMonitor {
 		return true;
 	}
 
-	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
-			}
-		}
-		return ""; //$NON-NLS-1$
-	}
-
-	private CapturedEventFilterMatcher getEventFilterMatcher() {
-		if (eventFilterMatcher == null) {
-			eventFilterMatcher = new CapturedEventFilterMatcher();
-		}
-		return eventFilterMatcher;
+	private static String getPublisherClassName() {
+		return STACK_WALKER.walk(frames -> frames //
+				.dropWhile(frame -> !EVENT_BROKER_CLASS.equals(frame.getClassName()))
+				.dropWhile(frame -> EVENT_BROKER_CLASS.equals(frame.getClassName()))
+				.filter(frame -> !EVENT_HELPER_CLASSES.contains(frame.getClassName())) //
+				.findFirst()
+				.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+						frame.getLineNumber()))
+				.orElse("")); //$NON-NLS-1$
 	}
 }
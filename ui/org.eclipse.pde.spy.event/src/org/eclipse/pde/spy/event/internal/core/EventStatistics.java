@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Counts the events of an {@link EventMonitor} per topic and per publisher
+ * without retaining the events. Events are recorded lock-free from any thread,
+ * the rates are computed when a {@link Snapshot} is taken.
+ */
+public class EventStatistics {
+
+	/**
+	 * The statistics of a single topic or publisher.
+	 *
+	 * @param name
+	 *            the topic or publisher
+	 * @param count
+	 *            the number of events since the statistics were cleared
+	 * @param rate
+	 *            the number of events per second since the previous snapshot
+	 * @param lastSeen
+	 *            the time of the last event in milliseconds since the epoch
+	 */
+	public record Entry(String name, long count, double rate, long lastSeen) {
+	}
+
+	/**
+	 * The statistics at the time of a call to {@link #snapshot(int)}.
+	 *
+	 * @param totalCount
+	 *            the number of all events
+	 * @param totalRate
+	 *            the number of all events per second
+	 * @param topicCount
+	 *            the number of distinct topics
+	 * @param topics
+	 *            the topics with the highest rate
+	 * @param publisherCount
+	 *            the number of distinct publishers
+	 * @param publishers
+	 *            the publishers with the highest rate
+	 */
+	public record Snapshot(long totalCount, double totalRate, int topicCount, List<Entry> topics, int publisherCount,
+			List<Entry> publishers) {
+	}
+
+	private static final Comparator<Entry> BY_RATE_AND_COUNT = Comparator.comparingDouble(Entry::rate)
+			.thenComparingLong(Entry::count);
+
+	private static final class Counter {
+		private final LongAdder count = new LongAdder();
+
+		private volatile long lastSeen;
+
+		// only accessed by the thread that takes the snapshots
+		private long sampledCount;
+
+		void increment(long now) {
+			count.increment();
+			lastSeen = now;
+		}
+
+		Entry sample(String name, double seconds) {
+			long currentCount = count.sum();
+			double rate = seconds > 0 ? (currentCount - sampledCount) / seconds : 0;
+			sampledCount = currentCount;
+			return new Entry(name, currentCount, rate, lastSeen);
+		}
+	}
+
+	private final Map<String, Counter> topics = new ConcurrentHashMap<>();
+
+	private final Map<String, Counter> publishers = new ConcurrentHashMap<>();
+
+	private final Counter total = new Counter();
+
+	private long sampledTime = System.nanoTime();
+
+	/**
+	 * Records an event. May be called from any thread.
+	 *
+	 * @param topic
+	 *            the topic of the event
+	 * @param publisher
+	 *            supplies the publisher of the event
+	 */
+	public void record(String topic, Supplier<String> publisher) {
+		long now = System.currentTimeMillis();
+		total.increment(now);
+		getCounter(topics, topic).increment(now);
+		getCounter(publishers, publisher.get()).increment(now);
+	}
+
+	private static Counter getCounter(Map<String, Counter> counters, String name) {
+		// the lookup does not lock if the counter exists already
+		Counter counter = counters.get(name);
+		if (counter == null) {
+			counter = counters.computeIfAbsent(name, n -> new Counter());
+		}
+		return counter;
+	}
+
+	/**
+	 * Takes a snapshot of the statistics. The rates are computed for the time
+	 * since the previous snapshot, so snapshots must be taken by a single
+	 * thread.
+	 *
+	 * @param topN
+	 *            the number of topics and publishers to include
+	 * @return the snapshot
+	 */
+	public synchronized Snapshot snapshot(int topN) {
+		long now = System.nanoTime();
+		double seconds = (now - sampledTime) / 1_000_000_000d;
+		sampledTime = now;
+		Entry totalEntry = total.sample("", seconds); //$NON-NLS-1$
+		return new Snapshot(totalEntry.count(), totalEntry.rate(), topics.size(), top(topics, topN, seconds),
+				publishers.size(), top(publishers, topN, seconds));
+	}
+
+	private static List<Entry> top(Map<String, Counter> counters, int topN, double seconds) {
+		// keeps the n highest entries in a min-heap instead of sorting all
+		PriorityQueue<Entry> queue = new PriorityQueue<>(topN + 1, BY_RATE_AND_COUNT);
+		counters.forEach((name, counter) -> {
+			queue.add(counter.sample(name, seconds));
+			if (queue.size() > topN) {
+				queue.poll();
+			}
+		});
+		List<Entry> result = new ArrayList<>(queue);
+		result.sort(BY_RATE_AND_COUNT.reversed());
+		return result;
+	}
+
+	public synchronized void clear() {
+		topics.clear();
+		publishers.clear();
+		total.count.reset();
+		total.sampledCount = 0;
+		total.lastSeen = 0;
+		sampledTime = System.nanoTime();
+	}
+}
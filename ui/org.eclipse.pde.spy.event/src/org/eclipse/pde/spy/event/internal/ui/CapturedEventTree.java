@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,13 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
+import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.list.WritableList;
 import org.eclipse.core.databinding.observable.map.IObservableMap;
 import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
@@ -59,7 +62,7 @@ import org.eclipse.swt.widgets.TreeItem;
 public class CapturedEventTree extends TreeViewer {
 	private ICapturedEventTreeListener listener;
 
-	private final WritableList<CapturedEvent> capturedEvents;
+	private final CapturedEventList capturedEvents;
 
 	private final Clipboard clipboard;
 
@@ -101,7 +104,7 @@ public class CapturedEventTree extends TreeViewer {
 				new String[] { Messages.CapturedEventTree_Name, Messages.CapturedEventTree_Param1, Messages.CapturedEventTree_Param2 });
 		setLabelProvider(new ObservableMapLabelProvider(attributes));
 
-		capturedEvents = new WritableList<>(new ArrayList<>(), CapturedEvent.class);
+		capturedEvents = new CapturedEventList();
 		setInput(capturedEvents);
 
 		clipboard = new Clipboard(getTree().getDisplay());
@@ -353,6 +356,35 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents.add(event);
 	}
 
+	/**
+	 * Adds a batch of events with a single tree update, removing the oldest
+	 * events if more than the given number of events would be shown.
+	 *
+	 * @param events
+	 *            the events to add, oldest first
+	 * @param maxEvents
+	 *            the maximum number of events to show
+	 */
+	public void addEvents(List<CapturedEvent> events, int maxEvents) {
+		if (events.isEmpty()) {
+			return;
+		}
+		List<CapturedEvent> added = events;
+		if (added.size() > maxEvents) {
+			added = added.subList(added.size() - maxEvents, added.size());
+		}
+		getTree().setRedraw(false);
+		try {
+			int excess = capturedEvents.size() + added.size() - maxEvents;
+			if (excess > 0) {
+				capturedEvents.removeFirst(excess);
+			}
+			capturedEvents.addAll(added);
+		} finally {
+			getTree().setRedraw(true);
+		}
+	}
+
 	public void setListener(ICapturedEventTreeListener listener) {
 		this.listener = listener;
 	}
@@ -361,6 +393,30 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents.clear();
 	}
 
+	/**
+	 * The list of captured events, oldest first, that can drop its oldest
+	 * events at once. {@link WritableList#removeAll(java.util.Collection)}
+	 * looks up and removes the events one by one.
+	 */
+	private static class CapturedEventList extends WritableList<CapturedEvent> {
+
+		CapturedEventList() {
+			super(new ArrayList<>(), CapturedEvent.class);
+		}
+
+		void removeFirst(int count) {
+			checkRealm();
+			List<CapturedEvent> removed = wrappedList.subList(0, count);
+			List<ListDiffEntry<CapturedEvent>> entries = new ArrayList<>(count);
+			for (CapturedEvent event : removed) {
+				// each entry applies to the list left by the previous one
+				entries.add(Diffs.createListDiffEntry(0, false, event));
+			}
+			removed.clear();
+			fireListChange(Diffs.createListDiff(entries));
+		}
+	}
+
 	private static class TreeItemForeground {
 		private final Color paramColor;
 
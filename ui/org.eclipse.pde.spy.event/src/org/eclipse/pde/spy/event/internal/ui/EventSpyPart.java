@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,12 +18,15 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
 import org.eclipse.pde.spy.event.internal.core.EventMonitor;
+import org.eclipse.pde.spy.event.internal.core.EventStatistics;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
 import org.eclipse.pde.spy.event.internal.util.JDTUtils;
@@ -41,6 +44,21 @@ import jakarta.inject.Inject;
 
 public class EventSpyPart implements EventMonitor.NewEventListener {
 
+	/**
+	 * Maximum number of events that are buffered and shown
+	 */
+	private static final int MAX_EVENTS = 10000;
+
+	/**
+	 * Interval in milliseconds in which captured events are added to the tree
+	 */
+	private static final int REFRESH_INTERVAL = 100;
+
+	/**
+	 * Number of topics and publishers that are shown in the statistics
+	 */
+	private static final int TOP_STATISTICS = 50;
+
 	private static final String[] SHOW_FILTER_LINK_TEXT = new String[] { Messages.EventSpyPart_ShowFilters, Messages.EventSpyPart_HideFilters };
 
 	private CapturedEventTree capturedEventTree;
@@ -53,6 +71,19 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	private ToggleLink showFiltersLink;
 
+	private final CapturedEventBuffer capturedEventBuffer = new CapturedEventBuffer(MAX_EVENTS);
+
+	private final EventStatistics eventStatistics = new EventStatistics();
+
+	private EventStatisticsView eventStatisticsView;
+
+	private boolean statisticsVisible;
+
+	private volatile boolean capturing;
+
+	/** whether a refresh of the captured events is scheduled */
+	private boolean refreshScheduled;
+
 	@Inject
 	private LoggerWrapper logger;
 
@@ -91,6 +122,7 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		createActionBar(outer);
 		createFilters(memento);
 		createCapturedEventTree(outer);
+		createEventStatisticsView();
 	}
 
 	@PreDestroy
@@ -115,6 +147,7 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		} else if (context.containsKey(SpyPartMemento.class.getName())) {
 			context.remove(SpyPartMemento.class.getName());
 		}
+		stopCaptureEvents();
 	}
 
 	private void createActionBar(Composite parent) {
@@ -141,6 +174,10 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		showFiltersLink.setText(new String[] { SHOW_FILTER_LINK_TEXT[0], SHOW_FILTER_LINK_TEXT[1] });
 		showFiltersLink.getControl().setLayoutData(new RowData(130, SWT.DEFAULT));
 		showFiltersLink.setClickListener(this::showFilters);
+
+		ToggleLink showStatisticsLink = new ToggleLink(actionBar);
+		showStatisticsLink.setText(new String[] { Messages.EventSpyPart_ShowStatistics, Messages.EventSpyPart_ShowEvents });
+		showStatisticsLink.setClickListener(this::showStatistics);
 	}
 
 	private void createFilters(SpyPartMemento memento) {
@@ -164,13 +201,26 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		capturedEventTree.setListener(this::openResource);
 	}
 
+	private void createEventStatisticsView() {
+		eventStatisticsView = new EventStatisticsView(outer);
+		eventStatisticsView.getControl().setVisible(false);
+		GridData gridData = createDefaultGridData();
+		gridData.exclude = true;
+		eventStatisticsView.getControl().setLayoutData(gridData);
+	}
+
 	public void captureEvents() {
 		capturedEventTree.removeAll();
+		capturedEventBuffer.clear();
+		eventStatistics.clear();
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
-			eventMonitor.setNewEventListener(this);
+			eventMonitor.setEventStatistics(eventStatistics);
 		}
+		updateEventMonitor();
+		capturing = true;
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
+		scheduleRefresh();
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
 	}
 
@@ -178,12 +228,44 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		if (eventMonitor != null) {
 			eventMonitor.stop();
 		}
+		if (capturing) {
+			capturing = false;
+			refreshCapturedEvents();
+		}
 		// getShell().setText(DIALOG_TITLE);
 	}
 
 	@Override
 	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+		// called on the publishing thread, the tree is updated in batches
+		capturedEventBuffer.add(event);
+	}
+
+	private void scheduleRefresh() {
+		// restarting the capture must not start another refresh chain
+		if (!refreshScheduled) {
+			refreshScheduled = true;
+			capturedEventTree.getControl().getDisplay().timerExec(REFRESH_INTERVAL, this::scheduledRefresh);
+		}
+	}
+
+	private void scheduledRefresh() {
+		refreshScheduled = false;
+		refreshCapturedEvents();
+	}
+
+	private void refreshCapturedEvents() {
+		if (capturedEventTree.getControl().isDisposed()) {
+			return;
+		}
+		List<CapturedEvent> events = capturedEventBuffer.drain();
+		capturedEventTree.addEvents(events, MAX_EVENTS);
+		if (statisticsVisible) {
+			eventStatisticsView.update(eventStatistics.snapshot(TOP_STATISTICS));
+		}
+		if (capturing) {
+			scheduleRefresh();
+		}
 	}
 
 	@SuppressWarnings("restriction")
@@ -212,6 +294,29 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		outer.layout(false);
 	}
 
+	private void showStatistics(boolean visible) {
+		statisticsVisible = visible;
+		capturedEventTree.getControl().setVisible(!visible);
+		((GridData) capturedEventTree.getControl().getLayoutData()).exclude = visible;
+		eventStatisticsView.getControl().setVisible(visible);
+		((GridData) eventStatisticsView.getControl().getLayoutData()).exclude = !visible;
+		if (visible) {
+			eventStatisticsView.update(eventStatistics.snapshot(TOP_STATISTICS));
+		}
+		updateEventMonitor();
+		outer.layout(false);
+	}
+
+	/**
+	 * Events are always counted, but while the statistics are shown they are
+	 * not retained as captured events.
+	 */
+	private void updateEventMonitor() {
+		if (eventMonitor != null) {
+			eventMonitor.setNewEventListener(statisticsVisible ? null : this);
+		}
+	}
+
 	private GridData createDefaultGridData() {
 		GridData gridData = new GridData();
 		gridData.verticalAlignment = GridData.FILL;
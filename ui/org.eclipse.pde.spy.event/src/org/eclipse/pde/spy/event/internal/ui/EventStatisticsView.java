@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.ui;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.pde.spy.event.internal.core.EventStatistics;
+import org.eclipse.pde.spy.event.internal.core.EventStatistics.Entry;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+
+/**
+ * Shows the topics and publishers with the highest event rates of an
+ * {@link EventStatistics}.
+ */
+public class EventStatisticsView {
+
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS"); //$NON-NLS-1$
+
+	private final Composite composite;
+
+	private final Label summary;
+
+	private final TableViewer topics;
+
+	private final TableViewer publishers;
+
+	public EventStatisticsView(Composite parent) {
+		composite = new Composite(parent, SWT.NONE);
+		GridLayout layout = new GridLayout(2, true);
+		layout.marginWidth = 0;
+		layout.marginHeight = 0;
+		composite.setLayout(layout);
+
+		summary = new Label(composite, SWT.NONE);
+		summary.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+		topics = createTable(ItemToFilter.Topic.toString());
+		publishers = createTable(ItemToFilter.Publisher.toString());
+		update(new EventStatistics().snapshot(0));
+	}
+
+	private TableViewer createTable(String name) {
+		TableViewer viewer = new TableViewer(composite, SWT.BORDER | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+		viewer.getTable().setHeaderVisible(true);
+		viewer.getTable().setLinesVisible(true);
+		viewer.getTable().setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true));
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+
+		createColumn(viewer, name, 300, SWT.LEFT, Entry::name);
+		createColumn(viewer, Messages.EventStatisticsView_Rate, 90, SWT.RIGHT,
+				entry -> String.format("%.1f", entry.rate())); //$NON-NLS-1$
+		createColumn(viewer, Messages.EventStatisticsView_Count, 80, SWT.RIGHT,
+				entry -> Long.toString(entry.count()));
+		createColumn(viewer, Messages.EventStatisticsView_LastSeen, 100, SWT.LEFT,
+				entry -> LocalTime.ofInstant(Instant.ofEpochMilli(entry.lastSeen()), ZoneId.systemDefault())
+						.format(TIME_FORMAT));
+		return viewer;
+	}
+
+	private static void createColumn(TableViewer viewer, String name, int width, int style,
+			Function<Entry, String> text) {
+		TableViewerColumn column = new TableViewerColumn(viewer, style);
+		column.getColumn().setText(name);
+		column.getColumn().setWidth(width);
+		column.setLabelProvider(new ColumnLabelProvider() {
+			@Override
+			public String getText(Object element) {
+				return text.apply((Entry) element);
+			}
+		});
+	}
+
+	public void update(EventStatistics.Snapshot snapshot) {
+		summary.setText(String.format(Messages.EventStatisticsView_Summary, snapshot.totalCount(),
+				snapshot.totalRate(), snapshot.topicCount(), snapshot.publisherCount()));
+		topics.setInput(snapshot.topics());
+		publishers.setInput(snapshot.publishers());
+	}
+
+	public Control getControl() {
+		return composite;
+	}
+}
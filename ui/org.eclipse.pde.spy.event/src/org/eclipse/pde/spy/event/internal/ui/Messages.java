@@ -23,9 +23,15 @@ public class Messages extends NLS {
 	public static String CapturedEventTree_Param1;
 	public static String CapturedEventTree_Param2;
 	public static String EventSpyPart_HideFilters;
+	public static String EventSpyPart_ShowEvents;
 	public static String EventSpyPart_ShowFilters;
+	public static String EventSpyPart_ShowStatistics;
 	public static String EventSpyPart_StartCapturingEvents;
 	public static String EventSpyPart_StopCapturingEvents;
+	public static String EventStatisticsView_Count;
+	public static String EventStatisticsView_LastSeen;
+	public static String EventStatisticsView_Rate;
+	public static String EventStatisticsView_Summary;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
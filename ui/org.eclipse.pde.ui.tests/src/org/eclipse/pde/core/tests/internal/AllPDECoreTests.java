@@ -1,5 +1,6 @@
 package org.eclipse.pde.core.tests.internal;
 
+import org.eclipse.pde.core.tests.internal.bnd.RequirementFiltersTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -9,6 +10,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	DependencyManagerTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
+	RequirementFiltersTest.class, //
 })
 public class AllPDECoreTests {
 }
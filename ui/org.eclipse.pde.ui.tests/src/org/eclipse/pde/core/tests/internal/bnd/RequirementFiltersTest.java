@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.bnd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.internal.core.bnd.RequirementFilters;
+import org.junit.Test;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.Version;
+
+/**
+ * Tests the narrowing of requirements to the capabilities with a specific
+ * attribute value in the bnd target repository.
+ */
+public class RequirementFiltersTest {
+
+	private static final String PACKAGE = "osgi.wiring.package";
+
+	private static final List<Map<String, Object>> CAPABILITIES = List.of( //
+			Map.of(PACKAGE, "foo", "version", new Version(1, 0, 0)), //
+			Map.of(PACKAGE, "foo", "version", new Version(2, 0, 0)), //
+			Map.of(PACKAGE, "foo.bar", "version", new Version(1, 0, 0)), //
+			Map.of(PACKAGE, "bar"), //
+			Map.of(PACKAGE, "Foo"), //
+			Map.of(PACKAGE, " foo"), //
+			Map.of(PACKAGE, "fo)o"), //
+			Map.of(PACKAGE, "fo*o"), //
+			Map.of(PACKAGE, List.of("foo", "bar")), //
+			Map.of("other", "foo"));
+
+	@Test
+	public void testEquality() throws Exception {
+		assertRequiredValue("foo", "(osgi.wiring.package=foo)");
+		assertRequiredValue("foo.bar", "(osgi.wiring.package=foo.bar)");
+	}
+
+	@Test
+	public void testConjunction() throws Exception {
+		assertRequiredValue("foo", "(&(osgi.wiring.package=foo)(version>=1.0.0))");
+		assertRequiredValue("foo", "(&(version>=1.0.0)(&(osgi.wiring.package=foo)))");
+		assertRequiredValue("foo", "(&(osgi.wiring.package=foo)(osgi.wiring.package=bar))");
+	}
+
+	@Test
+	public void testDisjunction() throws Exception {
+		assertRequiredValue(null, "(|(osgi.wiring.package=foo)(osgi.wiring.package=bar))");
+		assertRequiredValue(null, "(&(osgi.wiring.package=foo)(|(version>=2.0.0)(version<=1.0.0)))");
+	}
+
+	@Test
+	public void testNegation() throws Exception {
+		assertRequiredValue(null, "(!(osgi.wiring.package=foo))");
+		assertRequiredValue(null, "(&(version>=1.0.0)(!(osgi.wiring.package=foo)))");
+		assertRequiredValue(null, "(&(osgi.wiring.package=foo)(!(version>=2.0.0)))");
+	}
+
+	@Test
+	public void testWildcards() throws Exception {
+		assertRequiredValue(null, "(osgi.wiring.package=*)");
+		assertRequiredValue(null, "(osgi.wiring.package=foo*)");
+		assertRequiredValue(null, "(osgi.wiring.package=f*o)");
+	}
+
+	@Test
+	public void testEscapes() throws Exception {
+		assertRequiredValue(null, "(osgi.wiring.package=fo\\)o)");
+		assertRequiredValue(null, "(osgi.wiring.package=fo\\*o)");
+		assertRequiredValue(null, "(&(other=x\\(osgi.wiring.package=foo)(osgi.wiring.package=bar))");
+	}
+
+	@Test
+	public void testWhitespace() throws Exception {
+		assertRequiredValue("foo", "( osgi.wiring.package =foo)");
+		assertRequiredValue("foo", "(& (osgi.wiring.package=foo) (version>=1.0.0))");
+		assertRequiredValue(null, "(osgi.wiring.package= foo)");
+		assertRequiredValue(null, "(osgi.wiring.package=foo )");
+	}
+
+	@Test
+	public void testAttributeCase() throws Exception {
+		assertRequiredValue("foo", "(OSGI.Wiring.Package=foo)");
+		assertRequiredValue("Foo", "(osgi.wiring.package=Foo)");
+	}
+
+	@Test
+	public void testOtherOperators() throws Exception {
+		assertRequiredValue(null, "(osgi.wiring.package~=foo)");
+		assertRequiredValue(null, "(osgi.wiring.package>=foo)");
+		assertRequiredValue(null, "(osgi.wiring.package<=foo)");
+		assertRequiredValue(null, "(osgi.wiring.package.other=foo)");
+		assertRequiredValue(null, "(other=foo)");
+		assertNull(RequirementFilters.getRequiredValue(null, PACKAGE));
+	}
+
+	/**
+	 * Asserts that the value required by the filter is the expected one and
+	 * that all capabilities that match the filter have that value, i.e. that
+	 * narrowing the candidates does not change the result.
+	 */
+	private static void assertRequiredValue(String expected, String filter) throws InvalidSyntaxException {
+		String value = RequirementFilters.getRequiredValue(filter, PACKAGE);
+		assertEquals(filter, expected, value);
+		if (value == null) {
+			return;
+		}
+		Filter parsed = FrameworkUtil.createFilter(filter);
+		for (Map<String, Object> capability : CAPABILITIES) {
+			boolean narrowed = hasValue(capability.get(PACKAGE), value);
+			// capability attributes are matched case sensitive, properties not
+			if (parsed.matches(capability)) {
+				assertTrue(filter + " " + capability, narrowed);
+			}
+			if (parsed.match(new Hashtable<>(capability))) {
+				assertTrue(filter + " " + capability, narrowed);
+			}
+		}
+	}
+
+	private static boolean hasValue(Object attribute, String value) {
+		if (attribute instanceof Collection<?> values) {
+			return values.contains(value);
+		}
+		return value.equals(attribute);
+	}
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.junit.Test;
+
+/**
+ * Tests that abbreviated schemas loaded from their compiled form are equal to
+ * the schemas parsed from XML, for the schemas of the extension points of the
+ * target platform.
+ */
+public class CompiledSchemaTest {
+
+	@Test
+	public void testRoundTrip() {
+		Map<String, URL> schemas = new LinkedHashMap<>();
+		for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
+			for (IPluginExtensionPoint point : PDECore.getDefault().getExtensionsRegistry()
+					.findExtensionPointsForPlugin(model)) {
+				URL url = SchemaRegistry.getSchemaURL(point);
+				if (url != null) {
+					schemas.put(point.getFullId(), url);
+				}
+			}
+		}
+		assumeFalse("No extension point schemas in the target platform", schemas.isEmpty());
+
+		int includes = 0;
+		int references = 0;
+		for (Map.Entry<String, URL> entry : schemas.entrySet()) {
+			// the first abbreviated load compiles the schema if it is not
+			// cached yet, the second one reads the compiled form
+			new SchemaDescriptor(entry.getKey(), entry.getValue()).getSchema(true);
+			ISchema compiled = new SchemaDescriptor(entry.getKey(), entry.getValue()).getSchema(true);
+			ISchema parsed = new SchemaDescriptor(entry.getKey(), entry.getValue()).getSchema(false);
+			assertEquals(entry.getValue().toString(), dump(parsed), dump(compiled));
+			includes += parsed.getIncludes().length;
+			references += countReferences(parsed);
+		}
+		assertTrue("No schema with includes", includes > 0);
+		assertTrue("No schema with element references", references > 0);
+	}
+
+	/**
+	 * Returns a textual form of the properties of the schema that are part of
+	 * its compiled form, including the resolved references and the included
+	 * schemas.
+	 */
+	private static String dump(ISchema schema) {
+		StringBuilder buffer = new StringBuilder();
+		dump(schema, buffer);
+		return buffer.toString();
+	}
+
+	private static void dump(ISchema schema, StringBuilder buffer) {
+		buffer.append("schema ").append(schema.getPluginId()).append(' ').append(schema.getPointId()).append(' ')
+				.append(schema.getName()).append(' ').append(schema.isValid()).append('\n');
+		for (ISchemaInclude include : schema.getIncludes()) {
+			buffer.append("include ").append(include.getLocation()).append('\n');
+			ISchema included = include.getIncludedSchema();
+			if (included != null) {
+				dump(included, buffer);
+			}
+		}
+		for (ISchemaElement element : schema.getElements()) {
+			dump(element, buffer);
+		}
+	}
+
+	private static void dump(ISchemaElement element, StringBuilder buffer) {
+		buffer.append("element ").append(element.getName()).append(' ').append(element.getMinOccurs()).append(' ')
+				.append(element.getMaxOccurs()).append(' ').append(element.getLabelProperty()).append(' ')
+				.append(element.getIconProperty()).append(' ').append(element.hasTranslatableContent()).append(' ')
+				.append(element.isDeprecated());
+		if (element instanceof ISchemaRootElement root) {
+			buffer.append(" root ").append(root.getDeprecatedSuggestion()).append(' ').append(root.isInternal());
+		}
+		buffer.append('\n');
+		ISchemaType type = element.getType();
+		if (type instanceof ISchemaComplexType complexType) {
+			buffer.append("complex ").append(complexType.getName()).append(' ').append(complexType.isMixed())
+					.append('\n');
+			for (ISchemaAttribute attribute : complexType.getAttributes()) {
+				buffer.append("attribute ").append(attribute.getName()).append(' ').append(attribute.getKind())
+						.append(' ').append(attribute.getUse()).append(' ').append(attribute.getValue()).append(' ')
+						.append(attribute.getBasedOn()).append(' ').append(attribute.isTranslatable()).append(' ')
+						.append(attribute.isDeprecated()).append('\n');
+				dump(attribute.getType(), buffer);
+			}
+			dump(complexType.getCompositor(), buffer, 1);
+		} else if (type instanceof ISchemaSimpleType simpleType) {
+			dump(simpleType, buffer);
+		}
+	}
+
+	private static void dump(ISchemaSimpleType type, StringBuilder buffer) {
+		if (type == null) {
+			return;
+		}
+		buffer.append("type ").append(type.getName());
+		ISchemaRestriction restriction = type.getRestriction();
+		if (restriction != null) {
+			for (Object child : restriction.getChildren()) {
+				buffer.append(' ').append(((ISchemaObject) child).getName());
+			}
+		}
+		buffer.append('\n');
+	}
+
+	private static void dump(ISchemaCompositor compositor, StringBuilder buffer, int depth) {
+		if (compositor == null) {
+			return;
+		}
+		buffer.append("  ".repeat(depth)).append("compositor ").append(compositor.getKind()).append(' ')
+				.append(compositor.getMinOccurs()).append(' ').append(compositor.getMaxOccurs()).append('\n');
+		for (ISchemaObject child : compositor.getChildren()) {
+			if (child instanceof ISchemaCompositor childCompositor) {
+				dump(childCompositor, buffer, depth + 1);
+			} else if (child instanceof ISchemaObjectReference reference) {
+				ISchemaObject referenced = reference.getReferencedObject();
+				buffer.append("  ".repeat(depth + 1)).append("reference ").append(reference.getName()).append(' ')
+						.append(referenced != null ? referenced.getName() : null).append(' ')
+						.append(((ISchemaElement) child).getMinOccurs()).append(' ')
+						.append(((ISchemaElement) child).getMaxOccurs()).append('\n');
+			}
+		}
+	}
+
+	private static int countReferences(ISchema schema) {
+		int count = 0;
+		for (ISchemaElement element : schema.getElements()) {
+			if (element.getType() instanceof ISchemaComplexType complexType) {
+				count += countReferences(complexType.getCompositor());
+			}
+		}
+		return count;
+	}
+
+	private static int countReferences(ISchemaCompositor compositor) {
+		int count = 0;
+		if (compositor != null) {
+			for (ISchemaObject child : compositor.getChildren()) {
+				if (child instanceof ISchemaCompositor childCompositor) {
+					count += countReferences(childCompositor);
+				} else if (child instanceof ISchemaObjectReference) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+}
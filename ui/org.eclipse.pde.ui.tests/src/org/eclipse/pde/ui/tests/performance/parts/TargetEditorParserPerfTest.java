@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Tests the time it takes the generic target editor to update its model while
+ * a unit version is typed into a target definition with 5000 units.
+ */
+public class TargetEditorParserPerfTest extends PerformanceTestCase {
+
+	private static final int LOCATIONS = 10;
+	private static final int UNITS_PER_LOCATION = 500;
+	private static final int EDITS = 20;
+
+	private IDocument document;
+	private int editOffset;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		StringBuilder builder = new StringBuilder();
+		builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+		builder.append("<?pde version=\"3.8\"?>\n");
+		builder.append("<target name=\"generated\" sequenceNumber=\"1\">\n<locations>\n");
+		for (int l = 0; l < LOCATIONS; l++) {
+			builder.append("<location includeAllPlatforms=\"false\" includeMode=\"planner\" type=\"InstallableUnit\">\n");
+			builder.append("\t<repository location=\"https://example.org/repository").append(l).append("\"/>\n");
+			for (int u = 0; u < UNITS_PER_LOCATION; u++) {
+				builder.append("\t<unit id=\"org.example.bundle").append(l).append('_').append(u)
+						.append("\" version=\"1.0.").append(u).append("\"/>\n");
+			}
+			builder.append("</location>\n");
+		}
+		builder.append("</locations>\n</target>\n");
+		String text = builder.toString();
+		document = new Document(text);
+		editOffset = text.indexOf("version=\"1.0.250\"", text.indexOf("repository5")) + "version=\"1.0.250".length();
+	}
+
+	public void testIncrementalParse() throws Exception {
+		measureTyping(new Parser(true));
+	}
+
+	public void testFullParse() throws Exception {
+		measureTyping(new Parser(false));
+	}
+
+	private void measureTyping(Parser parser) throws Exception {
+		parser.parse(document);
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (int j = 0; j < EDITS; j++) {
+				document.replace(editOffset + j, 0, "1");
+				parser.parse(document);
+			}
+			stopMeasuring();
+			document.replace(editOffset, EDITS, "");
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2021 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -44,6 +48,7 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.bnd.TargetRepository;
 import org.eclipse.pde.ui.tests.PDETestsPlugin;
 import org.eclipse.pde.ui.tests.target.LocalTargetDefinitionTests;
 import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
@@ -52,6 +57,9 @@ import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.PerformanceTestCase;
 import org.junit.Assert;
 import org.osgi.framework.Version;
+import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
+import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 
 /**
@@ -161,6 +169,77 @@ public class TargetPlatformPerfTest extends PerformanceTestCase {
 		}
 	}
 
+	/**
+	 * Finds the providers of bundle and identity requirements for all bundles
+	 * of the example target in the bnd repository of the target platform
+	 */
+	public void testFindProviders() throws Exception {
+		tagAsSummary("Find providers in target repository", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		IPath testBundles = extractTargetPerfTestPlugins();
+		ITargetPlatformService tps = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		try {
+			ITargetDefinition target = tps.newTarget();
+			target.setTargetLocations(new ITargetLocation[] {tps.newDirectoryLocation(testBundles.toPortableString())});
+			TargetPlatformUtil.loadAndSetTarget(target);
+
+			List<Requirement> requirements = new ArrayList<>();
+			for (int i = 1; i <= SEARCH_TEST_EXTERNAL_COUNT; i++) {
+				String name = "TestBundle_" + i;
+				requirements.add(new TestRequirement("osgi.wiring.bundle", "(osgi.wiring.bundle=" + name + ")"));
+				requirements.add(new TestRequirement("osgi.identity", "(&(osgi.identity=" + name + ")(type=osgi.bundle))"));
+			}
+			TargetRepository repository = TargetRepository.getTargetRepository();
+
+			// Warm-up Iterations
+			for (int i = 0; i < 3; i++) {
+				executeFindProviders(repository, requirements);
+			}
+			// Test Iterations
+			for (int i = 0; i < 50; i++) {
+				startMeasuring();
+				executeFindProviders(repository, requirements);
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			// Restore the default target platform
+			ITargetDefinition defaultTarget = tps.newDefaultTarget();
+			LoadTargetDefinitionJob restoreJob = new LoadTargetDefinitionJob(defaultTarget);
+			restoreJob.runInWorkspace(null);
+		}
+	}
+
+	private void executeFindProviders(TargetRepository repository, List<Requirement> requirements) {
+		Map<Requirement, Collection<Capability>> providers = repository.findProviders(requirements);
+		for (Requirement requirement : requirements) {
+			Assert.assertEquals(requirement.toString(), 1, providers.get(requirement).size());
+		}
+	}
+
+	private record TestRequirement(String namespace, String filter) implements Requirement {
+
+		@Override
+		public String getNamespace() {
+			return namespace;
+		}
+
+		@Override
+		public Map<String, String> getDirectives() {
+			return Map.of(Namespace.REQUIREMENT_FILTER_DIRECTIVE, filter);
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return Map.of();
+		}
+
+		@Override
+		public Resource getResource() {
+			return null;
+		}
+	}
+
 	/**
 	 * Loads an example target definition as the active target platform
 	 */
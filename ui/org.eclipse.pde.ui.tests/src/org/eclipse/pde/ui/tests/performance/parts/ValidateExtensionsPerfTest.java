@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.internal.core.builders.PluginErrorReporter;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Tests the time it takes to validate a plugin.xml with 5000 extensions that
+ * each reference a Java class, a quarter of which do not exist.
+ */
+public class ValidateExtensionsPerfTest extends PerformanceTestCase {
+
+	private static final String PROJECT_NAME = "org.eclipse.pde.ui.tests.performance.extensions";
+	private static final int EXTENSIONS = 5000;
+
+	private IProject project;
+	private IFile pluginFile;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		project = ProjectUtils.createPluginProject(PROJECT_NAME, (IExecutionEnvironment) null).getProject();
+		IFolder schemaFolder = project.getFolder("schema");
+		schemaFolder.create(true, true, null);
+		write(schemaFolder.getFile("items.exsd"), """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="%1$s">
+				<annotation>
+				      <appInfo>
+				         <meta.schema plugin="%1$s" id="items" name="Items"/>
+				      </appInfo>
+				   </annotation>
+				   <element name="extension">
+				      <complexType>
+				         <sequence>
+				            <element ref="item" minOccurs="1" maxOccurs="unbounded"/>
+				         </sequence>
+				         <attribute name="point" type="string" use="required"/>
+				      </complexType>
+				   </element>
+				   <element name="item">
+				      <complexType>
+				         <attribute name="class" type="string" use="required">
+				            <annotation>
+				               <appInfo>
+				                  <meta.attribute kind="java"/>
+				               </appInfo>
+				            </annotation>
+				         </attribute>
+				      </complexType>
+				   </element>
+				</schema>
+				""".formatted(PROJECT_NAME));
+
+		String[] existingTypes = {PROJECT_NAME + ".Activator", "java.lang.String", "java.util.ArrayList"};
+		StringBuilder builder = new StringBuilder();
+		builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n<plugin>\n");
+		builder.append("<extension-point id=\"items\" name=\"Items\" schema=\"schema/items.exsd\"/>\n");
+		for (int i = 0; i < EXTENSIONS; i++) {
+			String type = i % 4 == 0 ? "org.example.Missing" + i % 100 : existingTypes[i % existingTypes.length];
+			builder.append("<extension point=\"").append(PROJECT_NAME).append(".items\">\n");
+			builder.append("\t<item class=\"").append(type).append("\"/>\n");
+			builder.append("</extension>\n");
+		}
+		builder.append("</plugin>\n");
+		pluginFile = project.getFile("plugin.xml");
+		write(pluginFile, builder.toString());
+		TestUtils.waitForJobs("ValidateExtensionsPerfTest.setUp", 100, 10000);
+	}
+
+	private static void write(IFile file, String contents) throws CoreException {
+		file.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		project.delete(true, true, null);
+		super.tearDown();
+	}
+
+	public void testValidate() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			new PluginErrorReporter(pluginFile).validateContent(new NullProgressMonitor());
+		}
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			new PluginErrorReporter(pluginFile).validateContent(new NullProgressMonitor());
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
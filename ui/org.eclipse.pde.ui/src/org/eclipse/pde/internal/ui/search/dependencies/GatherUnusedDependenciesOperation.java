@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2021 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -22,11 +22,21 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -58,6 +68,7 @@ import org.eclipse.pde.internal.core.text.bundle.ImportPackageHeader;
 import org.eclipse.pde.internal.core.text.bundle.ImportPackageObject;
 import org.eclipse.pde.internal.ui.PDEPlugin;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
+import org.eclipse.pde.internal.ui.search.dependencies.PackageFinder.References;
 import org.eclipse.pde.internal.ui.util.TextUtil;
 import org.osgi.framework.Constants;
 
@@ -76,6 +87,12 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 		}
 	}
 
+	/**
+	 * Number of threads that search the sources for references to the imports
+	 * that are not referenced by the class files
+	 */
+	private static final int SEARCH_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+
 	private final IPluginModelBase fModel;
 	private ArrayList<Object> fList;
 
@@ -109,32 +126,52 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 			}
 		}
 		IPluginImport[] imports = fModel.getPluginBase().getImports();
+		int packageCount = packages != null ? packages.length : 0;
+
+		SubMonitor subMonitor = SubMonitor.convert(monitor, imports.length * 3 + packageCount * 2 + 1);
 
-		int totalWork = imports.length * 3 + (packages != null ? packages.length : 0) + 1;
-		SubMonitor subMonitor = SubMonitor.convert(monitor, totalWork);
+		// a single pass over the class files answers most of the imports, only
+		// the imports that are not referenced there are searched for in the
+		// sources
+		References references = findReferences(subMonitor.split(imports.length + packageCount));
+
+		List<Integer> searches = new ArrayList<>();
+		for (int i = 0; i < imports.length; i++) {
+			if (!isReferenced(imports[i], references)) {
+				searches.add(i);
+			}
+		}
+		for (int i = 0; i < packageCount; i++) {
+			ImportPackageObject importPackage = packages[i];
+			if (!(exportedPackages != null && exportedPackages.contains(importPackage.getValue()))
+					&& !references.packages().contains(importPackage.getName())) {
+				searches.add(imports.length + i);
+			}
+		}
+		ImportPackageObject[] importPackages = packages;
+		boolean[] unused = runSearches(imports.length + packageCount, searches, (index, searchMonitor) -> {
+			if (index < imports.length) {
+				return isUnused(imports[index], searchMonitor);
+			}
+			return !provideJavaClasses(importPackages[index - imports.length], searchMonitor);
+		}, subMonitor.split(imports.length * 2 + packageCount));
 
 		HashMap<String, IPluginImport> usedPlugins = new HashMap<>();
 		fList = new ArrayList<>();
-		for (IPluginImport pluginImport : imports) {
-			if (subMonitor.isCanceled())
-				break;
-			if (isUnused(pluginImport, subMonitor.split(3))) {
-				fList.add(pluginImport);
-			} else
-				usedPlugins.put(pluginImport.getId(), pluginImport);
-			updateMonitor(subMonitor, fList.size());
+		for (int i = 0; i < imports.length; i++) {
+			if (unused[i]) {
+				fList.add(imports[i]);
+			} else {
+				usedPlugins.put(imports[i].getId(), imports[i]);
+			}
 		}
 
 		ArrayList<ImportPackageObject> usedPackages = new ArrayList<>();
-		if (packages != null && !subMonitor.isCanceled()) {
-			for (ImportPackageObject importPackage : packages) {
-				if (subMonitor.isCanceled())
-					break;
-				if (isUnused(importPackage, exportedPackages, subMonitor.split(1))) {
-					fList.add(importPackage);
-					updateMonitor(subMonitor, fList.size());
-				} else
-					usedPackages.add(importPackage);
+		for (int i = 0; i < packageCount; i++) {
+			if (unused[imports.length + i]) {
+				fList.add(packages[i]);
+			} else {
+				usedPackages.add(packages[i]);
 			}
 		}
 		if (!subMonitor.isCanceled()) {
@@ -171,16 +208,122 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 				+ PDEUIMessages.DependencyExtent_found);
 	}
 
-	private boolean isUnused(IPluginImport plugin, IProgressMonitor monitor) {
-		IPluginModelBase[] models = PluginJavaSearchUtil.getPluginImports(plugin);
-		return !provideJavaClasses(models, monitor);
+	private References findReferences(IProgressMonitor monitor) {
+		IResource resource = fModel.getUnderlyingResource();
+		if (resource != null && ClasspathUtilCore.hasBundleStructure(fModel)) {
+			IClassFile[] classFiles = PackageFinder.getClassFiles(resource.getProject(),
+					(IBundlePluginModelBase) fModel);
+			return PackageFinder.findReferencesInClassFiles(classFiles, monitor);
+		}
+		return new References(Set.of(), Set.of());
 	}
 
-	private boolean isUnused(ImportPackageObject pkg, Collection<String> exportedPackages, IProgressMonitor monitor) {
-		if (exportedPackages != null && exportedPackages.contains(pkg.getValue())) {
+	/**
+	 * Returns whether a type of the given plug-in or of the plug-ins it
+	 * re-exports is referenced by the class files of the project. If not, the
+	 * sources still need to be searched, as class files can be missing or lack
+	 * references like inlined constants.
+	 */
+	private boolean isReferenced(IPluginImport plugin, References references) {
+		if (references.types().isEmpty()) {
 			return false;
 		}
-		return !provideJavaClasses(pkg, monitor);
+		try {
+			IProject project = fModel.getUnderlyingResource().getProject();
+			if (!project.hasNature(JavaCore.NATURE_ID)) {
+				return false;
+			}
+			IPluginModelBase[] models = PluginJavaSearchUtil.getPluginImports(plugin);
+			IPackageFragment[] packageFragments = PluginJavaSearchUtil.collectPackageFragments(models,
+					JavaCore.create(project), true);
+			for (IPackageFragment pkgFragment : packageFragments) {
+				if (references.packages().contains(pkgFragment.getElementName())
+						&& containsReferencedType(pkgFragment, references.types())) {
+					return true;
+				}
+			}
+		} catch (CoreException e) {
+			PDEPlugin.logException(e);
+		}
+		return false;
+	}
+
+	private static boolean containsReferencedType(IPackageFragment packageFragment, Set<String> types)
+			throws JavaModelException {
+		// the names of the children are compared, so that the compilation
+		// units and class files need not be opened
+		String prefix = packageFragment.getElementName() + '.';
+		for (IJavaElement child : packageFragment.getChildren()) {
+			String name = child.getElementName();
+			int extension = name.lastIndexOf('.');
+			if (extension > 0 && name.indexOf('$') < 0 && types.contains(prefix + name.substring(0, extension))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Runs the searches for the imports with the given indices, using up to
+	 * {@link #SEARCH_PARALLELISM} threads.
+	 *
+	 * @return for each import whether it is unused
+	 */
+	private boolean[] runSearches(int importCount, List<Integer> searches,
+			BiPredicate<Integer, IProgressMonitor> isUnused, IProgressMonitor monitor)
+			throws InvocationTargetException {
+		boolean[] unused = new boolean[importCount];
+		SubMonitor subMonitor = SubMonitor.convert(monitor, searches.size());
+		int unusedCount = 0;
+		int parallelism = Math.min(SEARCH_PARALLELISM, searches.size());
+		if (parallelism <= 1) {
+			for (int index : searches) {
+				unused[index] = isUnused.test(index, subMonitor.split(1));
+				if (unused[index]) {
+					updateMonitor(subMonitor, ++unusedCount);
+				}
+			}
+			return unused;
+		}
+		// SubMonitor is not thread safe, the searches only observe cancellation
+		// and progress is reported from this thread as the searches complete
+		IProgressMonitor searchMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return subMonitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<Boolean>> futures = searches.stream()
+					.map(index -> executor.submit(() -> isUnused.test(index, searchMonitor))).toList();
+			for (int i = 0; i < futures.size(); i++) {
+				int index = searches.get(i);
+				try {
+					unused[index] = futures.get(i).get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					throw new InvocationTargetException(e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				}
+				subMonitor.split(1);
+				if (unused[index]) {
+					updateMonitor(subMonitor, ++unusedCount);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return unused;
+	}
+
+	private boolean isUnused(IPluginImport plugin, IProgressMonitor monitor) {
+		IPluginModelBase[] models = PluginJavaSearchUtil.getPluginImports(plugin);
+		return !provideJavaClasses(models, monitor);
 	}
 
 	private boolean provideJavaClasses(IPluginModelBase[] models, IProgressMonitor monitor) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2012, 2015 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,12 @@ package org.eclipse.pde.internal.ui.search.dependencies;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -27,6 +29,8 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IPackageFragment;
@@ -51,31 +55,80 @@ import org.osgi.framework.Constants;
 
 public class PackageFinder {
 
+	/**
+	 * The packages and top-level types referenced by a set of class files.
+	 * Nested types are represented by their top-level type.
+	 */
+	public record References(Set<String> packages, Set<String> types) {
+	}
+
+	/**
+	 * Only the parts of the class files that can reference types are decoded.
+	 * The method bodies are skipped, the types they reference are in the
+	 * constant pool.
+	 */
+	private static final int DECODING_FLAGS = IClassFileReader.CONSTANT_POOL | IClassFileReader.SUPER_INTERFACES
+			| IClassFileReader.FIELD_INFOS | IClassFileReader.METHOD_INFOS;
+
+	/**
+	 * Number of class files that are read in parallel between two checks of
+	 * the progress monitor
+	 */
+	private static final int BATCH_SIZE = 256;
+
 	public static Set<String> findPackagesInClassFiles(IClassFile[] files, IProgressMonitor monitor) {
-		Set<String> packages = new HashSet<>();
-		monitor.beginTask(PDEUIMessages.PackageFinder_taskName, files.length);
-		for (IClassFile file : files) {
-			IClassFileReader reader = ToolFactory.createDefaultClassFileReader(file, IClassFileReader.ALL);
-			if (reader != null)
-				computeReferencedTypes(reader, packages);
-			monitor.worked(1);
+		return findReferences(files, false, monitor).packages();
+	}
+
+	public static References findReferencesInClassFiles(IClassFile[] files, IProgressMonitor monitor) {
+		return findReferences(files, true, monitor);
+	}
+
+	private static References findReferences(IClassFile[] files, boolean collectTypes, IProgressMonitor monitor) {
+		Set<String> packages = ConcurrentHashMap.newKeySet();
+		Set<String> types = collectTypes ? ConcurrentHashMap.newKeySet() : Collections.emptySet();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDEUIMessages.PackageFinder_taskName, files.length);
+		for (int start = 0; start < files.length; start += BATCH_SIZE) {
+			if (subMonitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			int end = Math.min(start + BATCH_SIZE, files.length);
+			Arrays.stream(files, start, end).parallel().forEach(file -> {
+				IClassFileReader reader = ToolFactory.createDefaultClassFileReader(file, DECODING_FLAGS);
+				if (reader != null) {
+					// collect locally and merge once per class file
+					Set<String> filePackages = new HashSet<>();
+					Set<String> fileTypes = collectTypes ? new HashSet<>() : null;
+					computeReferencedTypes(reader, filePackages, fileTypes);
+					packages.addAll(filePackages);
+					if (fileTypes != null) {
+						types.addAll(fileTypes);
+					}
+				}
+			});
+			subMonitor.worked(end - start);
 		}
-		return packages;
+		return new References(packages, types);
 	}
 
-	static void computeReferencedTypes(IClassFileReader cfr, Set<String> packages) {
+	/**
+	 * @param types
+	 *            receives the referenced top-level types, may be
+	 *            <code>null</code> if they are not needed
+	 */
+	static void computeReferencedTypes(IClassFileReader cfr, Set<String> packages, Set<String> types) {
 
 		char[][] interfaces = cfr.getInterfaceNames();
 		if (interfaces != null) {
 			for (char[] interfaceName : interfaces) {
 				//note: have to convert names like Ljava/lang/Object; to java.lang.Object
-				packages.add(getPackage(new String(interfaceName).replace('/', '.')));
+				addType(new String(interfaceName).replace('/', '.'), packages, types);
 			}
 		}
 
 		char[] scn = cfr.getSuperclassName();
 		if (scn != null) {
-			packages.add(getPackage(new String(scn).replace('/', '.')));
+			addType(new String(scn).replace('/', '.'), packages, types);
 		}
 
 		IFieldInfo[] fieldInfos = cfr.getFieldInfos();
@@ -84,7 +137,7 @@ public class PackageFinder {
 			String fieldName = new String(fieldInfo.getDescriptor());
 			if (!isPrimitiveTypeSignature(fieldName)) {
 				String fieldDescriptor = extractFullyQualifiedTopLevelType(fieldName);
-				packages.add(getPackage(fieldDescriptor));
+				addType(fieldDescriptor, packages, types);
 			}
 		}
 
@@ -94,7 +147,7 @@ public class PackageFinder {
 			if (exceptionAttribute != null) {
 				char[][] exceptionNames = exceptionAttribute.getExceptionNames();
 				for (char[] exceptionName : exceptionNames) {
-					packages.add(getPackage(new String(exceptionName).replace('/', '.')));
+					addType(new String(exceptionName).replace('/', '.'), packages, types);
 				}
 			}
 
@@ -104,14 +157,14 @@ public class PackageFinder {
 			for (int j = 0; j < parameterTypes.length; j++) {
 				//have to parse to convert [Ljava/lang/String; to java.lang.String
 				if (!isPrimitiveTypeSignature(parameterTypes[j])) {
-					packages.add(getPackage(extractFullyQualifiedTopLevelType(parameterTypes[j])));
+					addType(extractFullyQualifiedTopLevelType(parameterTypes[j]), packages, types);
 				}
 			}
 			//add return type
 			String returnType = Signature.getReturnType(descriptor);
 			if (!isPrimitiveTypeSignature(returnType)) {
 				returnType = extractFullyQualifiedTopLevelType(returnType);
-				packages.add(getPackage(returnType));
+				addType(returnType, packages, types);
 			}
 		}
 
@@ -127,7 +180,7 @@ public class PackageFinder {
 					//note: may have to convert names like Ljava/lang/Object; to java.lang.Object
 					String className = new String(entry.getClassInfoName()).replace('/', '.');
 					className = className.indexOf(';') >= 0 ? extractFullyQualifiedTopLevelType(className) : className;
-					packages.add(getPackage(className));
+					addType(className, packages, types);
 					break;
 
 				case IConstantPoolConstant.CONSTANT_NameAndType :
@@ -145,21 +198,21 @@ public class PackageFinder {
 							String[] parameterTypes = Signature.getParameterTypes(descriptor);
 							for (int j = 0; j < parameterTypes.length; j++) {
 								if (!isPrimitiveTypeSignature(parameterTypes[j])) {
-									packages.add(getPackage(extractFullyQualifiedTopLevelType(parameterTypes[j])));
+									addType(extractFullyQualifiedTopLevelType(parameterTypes[j]), packages, types);
 								}
 							}
 							//add return type
 							String returnType = Signature.getReturnType(descriptor);
 							if (!isPrimitiveTypeSignature(returnType)) {
 								returnType = extractFullyQualifiedTopLevelType(returnType);
-								packages.add(getPackage(returnType));
+								addType(returnType, packages, types);
 							}
 
 						} else {
 							// Field type.
 							String typeString = new String(type);
 							if (!isPrimitiveTypeSignature(typeString)) {
-								packages.add(getPackage(extractFullyQualifiedTopLevelType(typeString)));
+								addType(extractFullyQualifiedTopLevelType(typeString), packages, types);
 							}
 						}
 					}
@@ -169,6 +222,14 @@ public class PackageFinder {
 		packages.remove(""); // removes default package if it exists //$NON-NLS-1$
 	}
 
+	private static void addType(String type, Set<String> packages, Set<String> types) {
+		packages.add(getPackage(type));
+		if (types != null) {
+			int nested = type.indexOf('$');
+			types.add(nested > 0 ? type.substring(0, nested) : type);
+		}
+	}
+
 	static boolean isPrimitiveTypeSignature(String typeSig) {
 		//check for array of primitives
 		/* bug 101514 - changed >= 2 and typeSig.subString(1, typeSig.length) to incorporate multi dimensional arrays of primitives */